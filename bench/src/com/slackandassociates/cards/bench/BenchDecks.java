@@ -0,0 +1,89 @@
+package com.slackandassociates.cards.bench;
+
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+import com.slackandassociates.cards.milestonecards.*;
+
+/**
+ * Support class used by the benchmarks to map the deck type parameter names
+ * to the deck definitions and card implementations in the library. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+final class BenchDecks
+{
+    /** Deck type - PlayingCardDeck.PC_DECK. */
+    static final String PC = "PC";
+    /** Deck type - PinochleCardDeck.PCP_DECK. */
+    static final String PCP = "PCP";
+    /** Deck type - MilestoneCardDeck.MC_DECK. */
+    static final String MC = "MC";
+
+    private BenchDecks()
+    {
+        // static methods only
+    }
+
+    /**
+     * Method used to return the deck definition for a deck type.
+     * @param type One of the PC, PCP or MC deck type names.
+     * @return CardEnum array of the deck definition.
+    */
+    static CardEnum[] deck(String type)
+    {
+        if (PCP.equals(type)) return PinochleCardDeck.PCP_DECK;
+        if (MC.equals(type)) return MilestoneCardDeck.MC_DECK;
+        return PlayingCardDeck.PC_DECK;
+    }
+
+    /**
+     * Method used to return the card implementation for a deck type.
+     * @param type One of the PC, PCP or MC deck type names.
+     * @return Class of the card implementation used with the deck.
+    */
+    static Class cardClass(String type)
+    {
+        if (MC.equals(type)) return MilestoneCard.class;
+        return PlayingCard.class;
+    }
+
+    /**
+     * Method used to create a new (unshuffled) card deck for a deck type.
+     * @param type One of the PC, PCP or MC deck type names.
+     * @param iNumDecks Number of decks to put in the card deck.
+     * @return New CardDeck instance.
+    */
+    static CardDeck newDeck(String type, int iNumDecks)
+    {
+        return new CardDeck(iNumDecks, deck(type), cardClass(type));
+    }
+
+    /**
+     * Method used to create a new (unshuffled) compact card deck for a deck type.
+     * @param type One of the PC, PCP or MC deck type names.
+     * @param iNumDecks Number of decks to put in the card deck.
+     * @return New CompactCardDeck instance.
+    */
+    static CardDeck newCompactDeck(String type, int iNumDecks)
+    {
+        return new CompactCardDeck(iNumDecks, deck(type), cardClass(type));
+    }
+
+    /**
+     * Method used to create a new (unshuffled) card deck for a deck type that
+     * hands out shared (flyweight) card instances.
+     * @param type One of the PC, PCP or MC deck type names.
+     * @param iNumDecks Number of decks to put in the card deck.
+     * @return New CardDeck instance.
+    */
+    static CardDeck newFlyweightDeck(String type, int iNumDecks)
+    {
+        return new CardDeck(iNumDecks, deck(type), new FlyweightCardFactory(cardClass(type)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.simulation.*;
+import com.slackandassociates.cards.playingcards.blackjack.*;
+
+/**
+ * JMH benchmarks covering the blackjack simulator, one op plays 1000 deals
+ * (six deck shoes dealt to 75%, or 100,000 continuous shuffler rounds) of basic
+ * strategy on one thread. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlackjackBenchmark
+{
+    /** Deal from a continuous shuffler instead of a shoe. */
+    @Param({"false", "true"})
+    public boolean csm;
+
+    private ForkJoinPool pool;
+    private BlackjackSimulator sim;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BlackjackRules rules = new BlackjackRules();
+
+        rules.setContinuousShuffle(csm);
+        sim = new BlackjackSimulator(rules);
+        sim.getEngine().setSeed(1L);
+        pool = new ForkJoinPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    /** Play 1000 deals. */
+    @Benchmark
+    public RunningStats play()
+    {
+        return sim.run(1000L, pool);
+    }
+}
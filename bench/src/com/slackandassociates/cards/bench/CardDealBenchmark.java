@@ -0,0 +1,79 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * JMH benchmarks covering dealing a 52 card deck to four sorted hands of 13
+ * cards, one card at a time (getNextCard() and add()) and with the batch deal
+ * methods.  One op is one full deal (the deck is dealt again without
+ * shuffling). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardDealBenchmark
+{
+    private static final int HANDS = 4;
+    private static final int CARDS_EACH = 13;
+
+    private CardDeck deck;
+    private CardHand[] hands = new CardHand[HANDS];
+    private int[][] values = new int[HANDS][CARDS_EACH];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        deck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard.FACTORY);
+        deck.shuffle(20261017L);
+        for (int h = 0; h < HANDS; h++) hands[h] = new CardHand(CARDS_EACH, true);
+    }
+
+    private void reset()
+    {
+        deck.returnCards();
+        for (int h = 0; h < HANDS; h++) hands[h].removeAll();
+    }
+
+    /** Deal round robin one card at a time with getNextCard() and add(). */
+    @Benchmark
+    public CardHand[] dealLoop()
+    {
+        reset();
+        for (int i = 0; i < CARDS_EACH; i++) {
+            for (int h = 0; h < HANDS; h++) hands[h].add(deck.getNextCard());
+        }
+        return hands;
+    }
+
+    /** Deal round robin with deal(CardHand[], int). */
+    @Benchmark
+    public CardHand[] dealHands()
+    {
+        reset();
+        deck.deal(hands, CARDS_EACH);
+        return hands;
+    }
+
+    /** Deal round robin card values with deal(int[][], int). */
+    @Benchmark
+    public int[][] dealValues()
+    {
+        deck.returnCards();
+        deck.deal(values, CARDS_EACH);
+        return values;
+    }
+}
@@ -0,0 +1,126 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import com.slackandassociates.cards.*;
+
+/**
+ * JMH benchmarks covering the card deck hot paths (shuffle, dealing the
+ * deck out and iterating over the deck) for the playing card, pinochle and
+ * milestone decks at several deck counts.  Run with the gc profiler
+ * ('-prof gc') to get the bytes allocated per deal. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDeckBenchmark
+{
+    /** Deck definition to benchmark. */
+    @Param({BenchDecks.PC, BenchDecks.PCP, BenchDecks.MC})
+    public String deckType;
+
+    /** Number of decks in the card deck (1 - 7). */
+    @Param({"1", "2", "4", "7"})
+    public int numDecks;
+
+    private CardDeck deck;
+    private CardDeck legacyDeck;
+    private CardDeck flyweightDeck;
+    private CardDeck compactDeck;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        deck = BenchDecks.newDeck(deckType, numDecks);
+        deck.shuffle();
+        legacyDeck = BenchDecks.newDeck(deckType, numDecks);
+        legacyDeck.setShuffler(new LegacyCardShuffler());
+        flyweightDeck = BenchDecks.newFlyweightDeck(deckType, numDecks);
+        compactDeck = BenchDecks.newCompactDeck(deckType, numDecks);
+    }
+
+    /** Shuffle of the full deck. */
+    @Benchmark
+    public CardDeck shuffle()
+    {
+        deck.shuffle();
+        return deck;
+    }
+
+    /** Shuffle of the full deck using the original (legacy) shuffle. */
+    @Benchmark
+    public CardDeck shuffleLegacy()
+    {
+        legacyDeck.shuffle();
+        return legacyDeck;
+    }
+
+    /** Shuffle of the full compact (byte coded) deck. */
+    @Benchmark
+    public CardDeck shuffleCompact()
+    {
+        compactDeck.shuffle();
+        return compactDeck;
+    }
+
+    /** Shuffle and deal the full deck out (one op == one full deal). */
+    @Benchmark
+    public void shuffleAndDeal(Blackhole bh)
+    {
+        deck.shuffle();
+        while (deck.hasMoreCards()) {
+            bh.consume(deck.getNextCard());
+        }
+    }
+
+    /** Shuffle and deal the full deck out handing out shared cards. */
+    @Benchmark
+    public void shuffleAndDealFlyweight(Blackhole bh)
+    {
+        flyweightDeck.shuffle();
+        while (flyweightDeck.hasMoreCards()) {
+            bh.consume(flyweightDeck.getNextCard());
+        }
+    }
+
+    /** Shuffle and deal the full compact (byte coded) deck out. */
+    @Benchmark
+    public void shuffleAndDealCompact(Blackhole bh)
+    {
+        compactDeck.shuffle();
+        while (compactDeck.hasMoreCards()) {
+            bh.consume(compactDeck.getNextCard());
+        }
+    }
+
+    /** Cost of getting a single card from the deck (card left in deck). */
+    @Benchmark
+    public Card getNextCard()
+    {
+        return deck.getNextCard(true);
+    }
+
+    /** Walk the full deck with the deck iterator. */
+    @Benchmark
+    public void iterate(Blackhole bh)
+    {
+        Iterator itr = deck.iterator();
+
+        while (itr.hasNext()) {
+            bh.consume(itr.next());
+        }
+    }
+}
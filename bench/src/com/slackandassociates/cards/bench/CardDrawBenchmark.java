@@ -0,0 +1,109 @@
+package com.slackandassociates.cards.bench;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+import com.slackandassociates.cards.milestonecards.*;
+
+/**
+ * JMH benchmarks covering a full table repaint, one op draws every card in
+ * the deck definition (fanned by the image offset) into an off screen image,
+ * either from the individual card images or from the image atlas.  The scaled
+ * draws (1.5 times the card size) compare rescaling every draw with the cached
+ * scaled images. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CardDrawBenchmark
+{
+    /** Deck definition (and image cache) to benchmark. */
+    @Param({BenchDecks.PC, BenchDecks.MC})
+    public String deckType;
+
+    /** Draw from the image atlas (true) or the individual images (false). */
+    @Param({"false", "true"})
+    public boolean atlas;
+
+    private CardImageCache cache;
+    private CardEnum[] values;
+    private BufferedImage table;
+    private Graphics2D g;
+    private int offset;
+    private int scaledW;
+    private int scaledH;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if (BenchDecks.MC.equals(deckType)) {
+            cache = new MilestoneCardImageCache();
+            offset = MilestoneCardImageCache.IMAGE_OFFSET;
+        }
+        else {
+            cache = new PlayingCardImageCache();
+            offset = PlayingCardImageCache.IMAGE_OFFSET;
+        }
+        if (atlas) cache.buildImageAtlas();
+        values = BenchDecks.deck(deckType);
+        scaledW = cache.getImageWidth() * 3 / 2;
+        scaledH = cache.getImageHeight() * 3 / 2;
+        table = new BufferedImage(offset * values.length + scaledW, scaledH, BufferedImage.TYPE_INT_ARGB_PRE);
+        g = table.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        g.dispose();
+    }
+
+    /** Draw every card in the deck definition. */
+    @Benchmark
+    public BufferedImage drawTable()
+    {
+        for (int i = 0; i < values.length; i++) {
+            cache.drawCardImage(g, values[i], i * offset, 0, null);
+        }
+
+        return table;
+    }
+
+    /** Draw every card in the deck definition, rescaling each draw. */
+    @Benchmark
+    public BufferedImage drawTableRescaled()
+    {
+        for (int i = 0; i < values.length; i++) {
+            g.drawImage(cache.getCardImage(values[i]), i * offset, 0, scaledW, scaledH, null);
+        }
+
+        return table;
+    }
+
+    /** Draw every card in the deck definition, using the scaled image cache. */
+    @Benchmark
+    public BufferedImage drawTableScaled()
+    {
+        for (int i = 0; i < values.length; i++) {
+            g.drawImage(cache.getCardImage(values[i], scaledW, scaledH), i * offset, 0, null);
+        }
+
+        return table;
+    }
+}
@@ -0,0 +1,108 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.PlayingCardSet;
+
+/**
+ * JMH benchmarks covering filling a card hand (sorted and unsorted) with
+ * several hand sizes.  One op is one hand filled from empty. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardHandBenchmark
+{
+    /** Deck definition the hand cards are taken from. */
+    @Param({BenchDecks.PC, BenchDecks.PCP})
+    public String deckType;
+
+    /** Number of cards in the hand. */
+    @Param({"5", "13", "24", "52"})
+    public int handSize;
+
+    /** Hand stored in sorted order or not. */
+    @Param({"true", "false"})
+    public boolean sorted;
+
+    private Card[] cards;
+    private CardHand hand;
+    private CardHand fullHand;
+    private PlayingCardSet set;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        int iDeckLen = BenchDecks.deck(deckType).length;
+        CardDeck deck = BenchDecks.newDeck(deckType, (handSize + iDeckLen - 1) / iDeckLen);
+
+        deck.shuffle();
+        cards = new Card[handSize];
+        for (int i = 0; i < handSize; i++) cards[i] = deck.getNextCard();
+        hand = new CardHand(handSize, sorted);
+        fullHand = new CardHand(handSize, sorted);
+        for (int i = 0; i < handSize; i++) fullHand.add(cards[i]);
+        set = new PlayingCardSet(fullHand);
+    }
+
+    /** Fill the hand one card at a time using add(). */
+    @Benchmark
+    public CardHand add()
+    {
+        hand.removeAll();
+        for (int i = 0; i < cards.length; i++) hand.add(cards[i]);
+        return hand;
+    }
+
+    /** Fill the hand with all of the cards at once using addAll(). */
+    @Benchmark
+    public CardHand addAll()
+    {
+        hand.removeAll();
+        hand.addAll(cards);
+        return hand;
+    }
+
+    /** Look up every hand card in a full hand using contains(). */
+    @Benchmark
+    public int contains()
+    {
+        int iFound = 0;
+
+        for (int i = 0; i < cards.length; i++) if (fullHand.contains(cards[i])) iFound++;
+
+        return iFound;
+    }
+
+    /** Look up every hand card in the bitmask set of the hand. */
+    @Benchmark
+    public int containsSet()
+    {
+        int iFound = 0;
+
+        for (int i = 0; i < cards.length; i++) if (set.contains(cards[i])) iFound++;
+
+        return iFound;
+    }
+
+    /** Fill a bitmask set one card at a time. */
+    @Benchmark
+    public PlayingCardSet addSet()
+    {
+        set.removeAll();
+        for (int i = 0; i < cards.length; i++) set.add(cards[i]);
+        return set;
+    }
+}
@@ -0,0 +1,57 @@
+package com.slackandassociates.cards.bench;
+
+import java.awt.Image;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+import com.slackandassociates.cards.milestonecards.*;
+
+/**
+ * JMH benchmarks covering the image cache lookup (getCardImage) done for
+ * every visible card during a repaint.  One op looks up the image for every
+ * card in the deck definition. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CardImageCacheBenchmark
+{
+    /** Deck definition (and image cache) to benchmark. */
+    @Param({BenchDecks.PC, BenchDecks.MC})
+    public String deckType;
+
+    private CardImageCache cache;
+    private CardEnum[] values;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if (BenchDecks.MC.equals(deckType))
+            cache = new MilestoneCardImageCache();
+        else
+            cache = new PlayingCardImageCache();
+        values = BenchDecks.deck(deckType);
+    }
+
+    /** Look up the image of every card in the deck definition. */
+    @Benchmark
+    public void getCardImage(Blackhole bh)
+    {
+        for (int i = 0; i < values.length; i++) {
+            bh.consume(cache.getCardImage(values[i]));
+        }
+    }
+}
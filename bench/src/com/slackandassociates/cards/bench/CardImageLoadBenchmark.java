@@ -0,0 +1,92 @@
+package com.slackandassociates.cards.bench;
+
+import java.awt.Canvas;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.milestonecards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * JMH benchmarks covering the creation and load of an image cache.  The cold
+ * load releases the cache after loading it (no other cache holds the shared
+ * images, so every load reads and decodes the images), the shared load creates
+ * a cache while another cache holds the images. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CardImageLoadBenchmark
+{
+    /** Deck definition (and image cache) to benchmark. */
+    @Param({BenchDecks.PC, BenchDecks.MC})
+    public String deckType;
+
+    /** Threads used by the load (0 loads sequentially and waits). */
+    @Param({"0", "4"})
+    public int loadThreads;
+
+    private Canvas comp = new Canvas();
+    private CardImageCache holder;
+
+    private CardImageCache newCache()
+    {
+        CardImageCache ret;
+
+        if (BenchDecks.MC.equals(deckType))
+            ret = new MilestoneCardImageCache(false);
+        else
+            ret = new PlayingCardImageCache(false);
+        if (loadThreads > 0) {
+            ret.loadImageCache(loadThreads);
+        }
+        else {
+            ret.loadImageCache();
+            ret.waitForImages(comp);
+        }
+
+        return ret;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown()
+    {
+        if (holder != null) holder.release();
+        holder = null;
+    }
+
+    /** Create a new cache and load (fully decode) all of its images. */
+    @Benchmark
+    public CardImageCache coldLoad()
+    {
+        CardImageCache ret = newCache();
+
+        ret.release(); // drop the shared images so the next load is cold
+
+        return ret;
+    }
+
+    /** Create a new cache while the images are held by another cache. */
+    @Benchmark
+    public CardImageCache sharedLoad()
+    {
+        if (holder == null) holder = newCache();
+
+        CardImageCache ret = newCache();
+
+        ret.release();
+
+        return ret;
+    }
+}
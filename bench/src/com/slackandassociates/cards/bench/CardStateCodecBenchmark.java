@@ -0,0 +1,76 @@
+package com.slackandassociates.cards.bench;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * JMH benchmarks comparing a deck and hand snapshot (save and restore) using
+ * the CardStateCodec against Java serialization. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardStateCodecBenchmark
+{
+    private CardDeck deck;
+    private CardDeck restoredDeck;
+    private CardHand hand;
+    private CardHand restoredHand;
+    private ByteBuffer buf = ByteBuffer.allocate(256);
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        deck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard.FACTORY);
+        restoredDeck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard.FACTORY);
+        hand = new CardHand(13, true);
+        restoredHand = new CardHand(13, true);
+        deck.shuffle();
+        hand.addAll(deck, 13);
+    }
+
+    /** Save and restore the deck and hand with the codec. */
+    @Benchmark
+    public CardHand codecRoundTrip()
+    {
+        buf.clear();
+        CardStateCodec.writeDeck(deck, buf);
+        CardStateCodec.writeHand(hand, buf);
+        buf.flip();
+        CardStateCodec.readDeck(buf, restoredDeck, PlayingCardEnum::fromValue);
+        CardStateCodec.readHand(buf, restoredHand, PlayingCard.FACTORY, PlayingCardEnum::fromValue);
+
+        return restoredHand;
+    }
+
+    /** Save and restore the deck and hand with Java serialization. */
+    @Benchmark
+    public Object serializationRoundTrip() throws IOException, ClassNotFoundException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(deck);
+            out.writeObject(hand);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            in.readObject();
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.slackandassociates.cards.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * JMH benchmarks covering the deal journal write path, one op writes a deal
+ * record (every tenth op a shuffle record) to a journal in a temp directory. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealJournalBenchmark
+{
+    private File dir;
+    private DealJournal journal;
+    private CardDeck deck;
+    private int iOps = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        dir = Files.createTempDirectory("dealjournal").toFile();
+        journal = new DealJournal(dir, "bench");
+        deck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard.FACTORY);
+        deck.shuffle();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        journal.close();
+        for (File f : dir.listFiles()) f.delete();
+        dir.delete();
+    }
+
+    /** Write a deal record, or a shuffle record every tenth call. */
+    @Benchmark
+    public long logDeal()
+    {
+        if ((++iOps % 10) == 0) {
+            deck.shuffle();
+            return journal.logShuffle(1, iOps, deck);
+        }
+        deck.getNextCard();
+
+        return journal.logDeal(1, deck);
+    }
+}
@@ -0,0 +1,51 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * JMH benchmarks covering seeded deal streams, making deal n of a stream
+ * directly (as a card order and as a shuffled deck). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealStreamBenchmark
+{
+    private DealStream stream = DealStream.forStream(20261017L, 1L);
+    private int[] order = new int[PlayingCardDeck.PC_DECK.length];
+    private long lDeal = 0L;
+
+    /** Make the card order of the next deal. */
+    @Benchmark
+    public int[] dealOrder()
+    {
+        stream.dealOrder(lDeal++, order);
+
+        return order;
+    }
+
+    /** Make the next deal in a new deck. */
+    @Benchmark
+    public CardDeck shuffleDeck()
+    {
+        CardDeck deck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard.FACTORY);
+
+        stream.shuffle(deck, lDeal++);
+
+        return deck;
+    }
+}
@@ -0,0 +1,52 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.playingcards.poker.*;
+
+/**
+ * JMH benchmarks covering the poker equity calculator, one op calculates the
+ * exact heads up equity of aces against kings with the given number of board
+ * cards known (0 is preflop, 1.7 million boards). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquityBenchmark
+{
+    /** Board cards in the order they are dealt (2c, 7h, Js, 9d, 5h). */
+    private static final int[] BOARD_BITS = {1, 32, 49, 21, 30};
+
+    /** Number of board cards known. */
+    @Param({"0", "3", "4"})
+    public int boardCards;
+
+    private PokerEquityCalculator calc = new PokerEquityCalculator();
+    private long[] holes = {(1L << 0) | (1L << 39), (1L << 38) | (1L << 25)};  // AcAs, KhKd
+    private long board;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        board = 0L;
+        for (int i = 0; i < boardCards; i++) board |= 1L << BOARD_BITS[i];
+    }
+
+    /** Calculate the equity. */
+    @Benchmark
+    public PokerEquity calculate()
+    {
+        return calc.calculate(holes, board);
+    }
+}
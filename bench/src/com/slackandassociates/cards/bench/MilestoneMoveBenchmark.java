@@ -0,0 +1,90 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.milestonecards.*;
+
+/**
+ * JMH benchmarks covering the milestone move generator, one op generates the
+ * moves of 1024 game states taken from random two player games. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MilestoneMoveBenchmark
+{
+    private static final int NUM_STATES = 1024;
+    private static final int HAND_SIZE = 6;
+
+    private MilestoneGameState[] states = new MilestoneGameState[NUM_STATES];
+    private int[] moves = new int[MilestoneMoveGenerator.MAX_MOVES];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        SplittableRandom rand = new SplittableRandom(1L);
+        int iDeckSize = MilestoneCardDeck.MC_DECK.length;
+
+        for (int i = 0; i < NUM_STATES; i++) {
+            MilestoneGameState state = new MilestoneGameState(2);
+            int[] deck = new int[iDeckSize];
+            int iTurns = rand.nextInt(40), d = 0;
+
+            for (int c = 0; c < iDeckSize; c++) deck[c] = MilestoneCardDeck.MC_DECK[c].getValue();
+            for (int c = iDeckSize - 1; c > 0; c--) {
+                int p = rand.nextInt(c + 1), v = deck[c];
+                deck[c] = deck[p];
+                deck[p] = v;
+            }
+            for (int c = 0; c < HAND_SIZE * 2; c++) state.addCard(c % 2, deck[d++]);
+
+            // play random moves to reach a mid game state
+            for (int t = 0; t <= iTurns; t++) {
+                state.addCard(state.getCurrentPlayer(), deck[d++]);
+                if (t == iTurns) break;
+
+                int n = MilestoneMoveGenerator.generate(state, moves, 0);
+                state.apply(moves[rand.nextInt(n)]);
+                if (MilestoneMoveGenerator.coupFourre(state) != MilestoneMoveGenerator.NO_MOVE) {
+                    state.apply(MilestoneMoveGenerator.coupFourre(state));
+                    state.addCard(state.getCurrentPlayer(), deck[d++]);
+                }
+            }
+            states[i] = state;
+        }
+    }
+
+    /** Generate the moves of every state. */
+    @Benchmark
+    public int generateMoves()
+    {
+        int iRet = 0;
+
+        for (int i = 0; i < NUM_STATES; i++) iRet += MilestoneMoveGenerator.generate(states[i], moves, 0);
+
+        return iRet;
+    }
+
+    /** Copy every state into a scratch state (search node reuse). */
+    @Benchmark
+    public MilestoneGameState copyStates()
+    {
+        MilestoneGameState scratch = new MilestoneGameState(2);
+
+        for (int i = 0; i < NUM_STATES; i++) scratch.copyFrom(states[i]);
+
+        return scratch;
+    }
+}
@@ -0,0 +1,78 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.simulation.*;
+
+/**
+ * JMH benchmarks covering the Monte Carlo engine scaling, one op simulates
+ * 1,000,000 deals of two cards (counting pairs) on a fork/join pool with the
+ * given parallelism. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonteCarloBenchmark
+{
+    /** Deal simulation counting the deals with a pair in the first two cards. */
+    private static final DealSimulation PAIRS = new DealSimulation() {
+        public DealAccumulator createAccumulator()
+        {
+            return new OutcomeCounter(2);
+        }
+
+        public void evaluate(CardDeck deck, DealAccumulator acc)
+        {
+            Card c1 = deck.getNextCard();
+            Card c2 = deck.getNextCard();
+
+            ((OutcomeCounter) acc).count((c1.getCardPointValue() == c2.getCardPointValue()) ? 1 : 0);
+        }
+    };
+
+    /** Deck definition to deal from. */
+    @Param({BenchDecks.PC, BenchDecks.PCP})
+    public String deckType;
+
+    /** Fork/join pool parallelism. */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private MonteCarloEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        pool = new ForkJoinPool(parallelism);
+        engine = new MonteCarloEngine(CardDeck.JC_ONE_DECK, BenchDecks.deck(deckType),
+                                      new FlyweightCardFactory(BenchDecks.cardClass(deckType)), null);
+        engine.setSeed(1L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    /** Simulate 1,000,000 deals. */
+    @Benchmark
+    public DealAccumulator simulate()
+    {
+        return engine.run(PAIRS, 1000000L, pool);
+    }
+}
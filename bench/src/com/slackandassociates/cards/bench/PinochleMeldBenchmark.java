@@ -0,0 +1,75 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+import com.slackandassociates.cards.playingcards.pinochle.*;
+
+/**
+ * JMH benchmarks covering the pinochle meld scorer, one op scores a batch of
+ * 4096 random twelve card hands (with a given trump and with the best trump). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PinochleMeldBenchmark
+{
+    private static final int NUM_HANDS = 4096;
+    private static final int HAND_SIZE = 12;
+
+    private long[] hands = new long[NUM_HANDS];
+    private int[] scores = new int[NUM_HANDS];
+    private int[] trumps = new int[NUM_HANDS];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        SplittableRandom rand = new SplittableRandom(1L);
+        CardEnum[] deck = (CardEnum[]) PinochleCardDeck.PCP_DECK.clone();
+
+        for (int h = 0; h < NUM_HANDS; h++) {
+            long counts = 0L;
+
+            for (int i = 0; i < HAND_SIZE; i++) {
+                int p = i + rand.nextInt(deck.length - i);
+                CardEnum ce = deck[p];
+
+                deck[p] = deck[i];
+                deck[i] = ce;
+                counts = PinochleCards.addCard(counts, ce.getValue());
+            }
+            hands[h] = counts;
+        }
+    }
+
+    /** Score the hands with hearts trump. */
+    @Benchmark
+    public int[] scoreTrump()
+    {
+        PinochleMeld.score(hands, PlayingCard.JPC_HEARTS, scores, 0, NUM_HANDS);
+
+        return scores;
+    }
+
+    /** Score the hands with each hand's best trump. */
+    @Benchmark
+    public int[] scoreBestTrump()
+    {
+        PinochleMeld.bestScore(hands, scores, trumps, 0, NUM_HANDS);
+
+        return scores;
+    }
+}
@@ -0,0 +1,76 @@
+package com.slackandassociates.cards.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import com.slackandassociates.cards.playingcards.poker.*;
+
+/**
+ * JMH benchmarks covering the poker hand evaluator, one op ranks a batch of
+ * 4096 random hands of the given size (as card masks and as card values). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokerEvaluatorBenchmark
+{
+    private static final int NUM_HANDS = 4096;
+
+    /** Number of cards in each hand. */
+    @Param({"5", "7"})
+    public int handSize;
+
+    private long[] masks = new long[NUM_HANDS];
+    private int[] values;
+    private int[] scores = new int[NUM_HANDS];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        SplittableRandom rand = new SplittableRandom(1L);
+        int idx = 0;
+
+        values = new int[NUM_HANDS * handSize];
+        for (int h = 0; h < NUM_HANDS; h++) {
+            long mask = 0L;
+
+            while (Long.bitCount(mask) < handSize) {
+                int iBit = rand.nextInt(52);
+                if ((mask & (1L << iBit)) == 0L) {
+                    mask |= 1L << iBit;
+                    values[idx++] = iBit + 1;
+                }
+            }
+            masks[h] = mask;
+        }
+    }
+
+    /** Rank the hands held as card masks. */
+    @Benchmark
+    public int[] evaluateMasks()
+    {
+        PokerHandEvaluator.evaluate(masks, scores, 0, NUM_HANDS);
+
+        return scores;
+    }
+
+    /** Rank the hands held as card values. */
+    @Benchmark
+    public int[] evaluateValues()
+    {
+        PokerHandEvaluator.evaluate(values, handSize, scores, NUM_HANDS);
+
+        return scores;
+    }
+}
@@ -6,15 +6,19 @@ package com.slackandassociates.cards;
  * <b>Changes:</b>
  * <ul>
  * <li> 2004-08-20 - Initial release.
+ * <li> 2026-10-17 - Added fromValue() and readResolve() (NO_CARD stays a single
+ * instance across serialization), serial version UID fixed at the 1.00 value.
  * </ul>
  * @see CardEnum
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2004-08-20
- * @version Version 1.00 2004-08-20
+ * @version Version 1.01 2026-10-17
 */
 public class BlankCardEnum implements CardEnum
 {
+    static final long serialVersionUID = -8329154869671916702L;
+
     // public constants
     /** Card value - no card/invalid card */
     public static final CardEnum NO_CARD = new BlankCardEnum();
@@ -32,8 +36,27 @@ public class BlankCardEnum implements CardEnum
         // empty
     }
 
+    // ------------------- Serialization Methods --------------------
+
+    /** Method used to replace a deserialized enumeration with NO_CARD.
+     * @return The NO_CARD constant.
+    */
+    private Object readResolve()
+    {
+        return NO_CARD;
+    }
+
     // ----------------------- Public Methods -----------------------
 
+    /** Method used to return the card enumeration constant of a card value.
+     * @param iVal Card value.
+     * @return NO_CARD if the value is JC_NO_CARD_VALUE, else null.
+    */
+    public static CardEnum fromValue(int iVal)
+    {
+        return (iVal == CardEnum.JC_NO_CARD_VALUE) ? NO_CARD : null;
+    }
+
     /** Method used to return the value of this enumeration as a int.
      * @return The value of the card enumeration instance.
     */
@@ -12,7 +12,7 @@ import java.io.*;
  * the cards in the set. <br>
  * NOTE: The card implementation must contain an empty constructor and a
  * constructor that takes a CardEnum parameter if the card is to be used
- * with the CardDeck. <br><br>
+ * with the CardDeck (unless a CardFactory is given to the CardDeck). <br><br>
  * <b>Changes:</b>
  * <ul>
  * <li> 2004-08-19 - Interface created.
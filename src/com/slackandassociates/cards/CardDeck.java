@@ -2,14 +2,19 @@ package com.slackandassociates.cards;
 
 import java.io.*;
 import java.util.*;
-import java.lang.reflect.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Collection-like class that defines a playing card deck class along with
  * several methods and constants.  Defines methods to set and get cards (of
  * the Card class) from the deck along with other support methods. <br>
  * The CardDeck class supports multi-deck games (up to seven decks) so that 
- * games such as blackjack (or 21) can be programmed. <br><br>
+ * games such as blackjack (or 21) can be programmed (CompactCardDeck supports
+ * any number of decks). <br>
+ * The shuffle algorithm used can be changed by setting a CardShuffler into the
+ * deck, defaults to a single pass Fisher-Yates shuffle. <br>
+ * Cards handed out by the deck are created by a CardFactory, either given
+ * directly or created from the card implementation class passed in. <br><br>
  * <b>Changes:</b>
  * <ul>
  * <li> 2001/07/21 - Initial release.
@@ -21,11 +26,29 @@ import java.lang.reflect.*;
  * <li> 2005-01-05 - Fixed a minor issue with extra cards in constructor (forgot to
  * include length in creating card array).
  * <li> 2012-08-08 - Added in a serial version UID per Findbugs hint.
+ * <li> 2026-10-17 - Added shuffle strategy (CardShuffler), default shuffle is now
+ * a single pass Fisher-Yates shuffle (LegacyCardShuffler for the original).
+ * <li> 2026-10-17 - Cards created using a CardFactory instead of reflection.
+ * <li> 2026-10-17 - Added protected constructor and card storage methods so the
+ * card storage can be replaced by subclasses (see CompactCardDeck).
+ * <li> 2026-10-17 - Added card count, cards dealt and cards remaining methods, random
+ * card draw and return of the dealt cards (used by continuous shufflers).
+ * <li> 2026-10-17 - Decks serialized before the card factory change (card class
+ * field) are read with a class card factory.  Added card store and state restore
+ * methods used by the CardStateCodec.
+ * <li> 2026-10-17 - Added seeded shuffles (shuffle(long), shuffle(RandomGenerator))
+ * giving the same card order for the same seed (see DealStream).
+ * <li> 2026-10-17 - Added deal() methods dealing to many hands (or card value
+ * arrays) in one pass, round robin or in blocks of cards.
+ * <li> 2026-10-17 - Position of the last random draw kept for the DealJournal.
+ * <li> 2026-10-17 - Deck definition kept, added reset() to put the cards back in
+ * their starting order.  Seeded shuffles start from the starting order.
+ * <li> 2026-10-17 - deal() rejects a hand (or card value array) given twice.
  * </ul>
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2001-07-21
- * @version Version 2.02 2012-08-08
+ * @version Version 2.10 2026-10-17
 */
 public class CardDeck
     implements Serializable
@@ -54,8 +77,11 @@ public class CardDeck
     private int numDecks;
     private CardEnum[] cards;
     private boolean shuffled;
-    private Class cardCls;
-    private transient Constructor cardCons = null;
+    private CardFactory cardFactory;
+    private CardEnum[] deckDef = null;  // deck definition (not copied)
+    private CardEnum[] extraDef = null; // extra cards definition (not copied)
+    private transient CardShuffler shuffler = null;
+    private transient int drawnFrom = -1; // position of the last random draw
 
     // ------------------- Constructors ----------------------------------------
 
@@ -73,6 +99,20 @@ public class CardDeck
         this(JC_ONE_DECK, deck, cardImpl);
     }
 
+    /**
+     * Constructor to create a card deck.  Initializes the cards in
+     * the deck, but does not shuffle.  Will setup card deck with one deck of
+     * cards initialized by the passed in deck array.
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    public CardDeck(CardEnum[] deck, CardFactory factory)
+    {
+        this(JC_ONE_DECK, deck, factory);
+    }
+
     /**
      * Constructor to create a card deck.  Initializes the cards in
      * the deck(s), but does not shuffle.  Will create a set of cards containing
@@ -88,6 +128,21 @@ public class CardDeck
         this(iNumDecks, deck, cardImpl, null);
     }
 
+    /**
+     * Constructor to create a card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  Will create a set of cards containing
+     * up to 7 decks.  If an invalid number of decks is specified, 1 deck is used.
+     * @param iNumDecks A value from 1 to 7 (JC_ONE_DECK to JC_SEVEN_DECK).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    public CardDeck(int iNumDecks, CardEnum[] deck, CardFactory factory)
+    {
+        this(iNumDecks, deck, factory, null);
+    }
+
     /**
      * Constructor to create a card deck.  Initializes the cards in
      * the deck(s), but does not shuffle.  Will create a set of cards containing
@@ -102,10 +157,30 @@ public class CardDeck
      * once.  Parameter can be null (no additional cards).
     */
     public CardDeck(int iNumDecks, CardEnum[] deck, Class cardImpl, CardEnum[] extraCards)
+    {
+        this(iNumDecks, deck, new ClassCardFactory(cardImpl), extraCards);
+    }
+
+    /**
+     * Constructor to create a card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  Will create a set of cards containing
+     * up to 7 decks.  If an invalid number of decks is specified, 1 deck is used.
+     * @param iNumDecks A value from 1 to 7 (JC_ONE_DECK to JC_SEVEN_DECK).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance (a FlyweightCardFactory will hand out shared cards).
+     * @param extraCards CardEnum array containing extra cards to add to the
+     * card deck after the deck is initialized.  Will only be added to the deck
+     * once.  Parameter can be null (no additional cards).
+    */
+    public CardDeck(int iNumDecks, CardEnum[] deck, CardFactory factory, CardEnum[] extraCards)
     {
         int ii = 0;
 
-        cardCls = cardImpl;
+        cardFactory = factory;
+        deckDef = deck;
+        extraDef = extraCards;
 
         // number of decks ok?
         numDecks = iNumDecks;
@@ -134,62 +209,280 @@ public class CardDeck
         }
     }
 
-    // ---------------------------- Private Methods ---------------------------
+    /**
+     * Constructor used by subclasses that keep their own card storage (the
+     * cardEnumAt(), swapCards() and shuffleCards() methods must be overridden).  Number of
+     * decks is not validated.
+     * @param iNumDecks Number of decks of cards in the deck.
+     * @param iNumCards Total number of cards in the deck.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    protected CardDeck(int iNumDecks, int iNumCards, CardFactory factory)
+    {
+        numDecks = iNumDecks;
+        lastCard = iNumCards;
+        cardFactory = factory;
+        nextCard = 0;
+        shuffled = false;
+        cards = null;
+    }
 
-    private Card createNewCard(CardEnum ce)
+    /**
+     * Constructor used by subclasses that keep their own card storage, the
+     * deck definition is kept so reset() can put the cards back in their
+     * starting order (the subclass stores the starting order).  Number of
+     * decks is not validated.
+     * @param iNumDecks Number of decks of cards in the deck.
+     * @param deck CardEnum array containing the set of cards in each deck.
+     * @param extraCards CardEnum array containing the extra cards added once
+     * after the decks (can be null).
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    protected CardDeck(int iNumDecks, CardEnum[] deck, CardEnum[] extraCards, CardFactory factory)
     {
-        try {
-            // reflect to get constructor
-            if (cardCons == null) {
-                Class[] cPs = new Class[1];
-                cPs[0] = CardEnum.class;
-                cardCons = cardCls.getConstructor(cPs);
-            }
+        this(iNumDecks, (deck.length * iNumDecks) + ((extraCards == null) ? 0 : extraCards.length), factory);
+        deckDef = deck;
+        extraDef = extraCards;
+    }
 
-            Object[] prms = new Object[1];
-            prms[0] = ce;
+    // ---------------------------- Private Methods ---------------------------
 
-            return (Card) cardCons.newInstance(prms);
-        }
-        catch (NoSuchMethodException nsme) {
-            System.err.println("CardDeck: not a valid card class (missing constructor(CardEnum)).  " + nsme);
-            return new BlankCard();
-        }
-        catch (InstantiationException ie) {
-            System.err.println("CardDeck: could not create card requested.  " + ie);
-            return new BlankCard();
-        }
-        catch (IllegalAccessException iae) {
-            System.err.println("CardDeck: do not have permission to create new card.  " + iae);
-            return new BlankCard();
+    /**
+     * Method used to read a serialized deck.  Decks written before the card
+     * factory was added hold the card class instead (cardCls field), a class
+     * card factory is created for those.
+     * @param in ObjectInputStream to read the deck from.
+     * @throws IOException If the deck can not be read.
+     * @throws ClassNotFoundException If a class in the stream can not be found.
+    */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        ObjectInputStream.GetField fields = in.readFields();
+
+        nextCard = fields.get("nextCard", 0);
+        lastCard = fields.get("lastCard", 0);
+        numDecks = fields.get("numDecks", JC_ONE_DECK);
+        cards = (CardEnum[]) fields.get("cards", null);
+        shuffled = fields.get("shuffled", false);
+        cardFactory = (CardFactory) fields.get("cardFactory", null);
+        deckDef = (CardEnum[]) fields.get("deckDef", null);
+        extraDef = (CardEnum[]) fields.get("extraDef", null);
+        drawnFrom = -1;
+
+        if (cardFactory == null) {
+            try {
+                Class cardCls = (Class) fields.get("cardCls", null);
+                if (cardCls != null) cardFactory = new ClassCardFactory(cardCls);
+            }
+            catch (IllegalArgumentException e) {
+                // newer stream without the card class field
+            }
         }
-        catch (InvocationTargetException ite) {
-            System.err.println("CardDeck: could not create new card.  " + ite);
-            return new BlankCard();
+    }
+
+    /**
+     * Method used to check a deal can be made (arguments valid, no hand given
+     * twice and enough cards left in the deck).
+     * @param hands Hands (or card value arrays) to deal to.
+     * @param iCardsEach Number of cards to deal to each hand.
+     * @param iBlockSize Number of cards dealt to a hand at a time.
+    */
+    private void checkDeal(Object[] hands, int iCardsEach, int iBlockSize)
+    {
+        int iHands = hands.length;
+
+        if ((iCardsEach < 0) || (iBlockSize < 1))
+            throw new IllegalArgumentException("CardDeck: bad deal of " + iCardsEach + " cards in blocks of " +
+                                               iBlockSize + ".");
+        if ((long) iHands * iCardsEach > getCardsRemaining())
+            throw new IllegalStateException("CardDeck: deal needs " + ((long) iHands * iCardsEach) + " cards, " +
+                                            getCardsRemaining() + " left in the deck.");
+        for (int i = 1; i < iHands; i++) {
+            for (int j = 0; j < i; j++) {
+                if (hands[i] == hands[j])
+                    throw new IllegalArgumentException("CardDeck: hand " + i + " is the same as hand " + j + ".");
+            }
         }
     }
 
+    // --------------------------- Package Methods ----------------------------
+
+    /**
+     * Method used to restore the deal position and shuffled flag of the deck
+     * (the cards must already be stored in the saved order).
+     * @param iNextCard Position of the next card to deal.
+     * @param bShuffled Shuffled flag.
+    */
+    void restoreState(int iNextCard, boolean bShuffled)
+    {
+        nextCard = iNextCard;
+        shuffled = bShuffled;
+        drawnFrom = -1;
+    }
+
+    /**
+     * Method used to return the position the last card dealt was drawn from
+     * if it was dealt by getRandomCard() (it was swapped with the card at
+     * getCardsDealt() - 1).  Used by the DealJournal to record random draws.
+     * @return Position drawn from, -1 if the last card was not a random draw
+     * or the deck was shuffled, dealt or returned since.
+    */
+    int getDrawnFrom()
+    {
+        return drawnFrom;
+    }
+
+    // --------------------------- Protected Methods --------------------------
+
+    /**
+     * Method used to store a card value at a position in the deck (used when
+     * restoring a saved deck).
+     * @param idx Position (zero based) of the card in the deck.
+     * @param ce CardEnum value to store.
+    */
+    protected void setCardEnumAt(int idx, CardEnum ce)
+    {
+        cards[idx] = ce;
+    }
+
+    /**
+     * Method used to return the card value stored at a position in the deck.
+     * @param idx Position (zero based) of the card in the deck.
+     * @return CardEnum value of the card at the position.
+    */
+    protected CardEnum cardEnumAt(int idx)
+    {
+        return cards[idx];
+    }
+
+    /**
+     * Method used to swap the cards stored at two positions in the deck.
+     * @param i Position (zero based) of the first card.
+     * @param j Position (zero based) of the second card.
+    */
+    protected void swapCards(int i, int j)
+    {
+        CardEnum c = cards[i];
+        cards[i] = cards[j];
+        cards[j] = c;
+    }
+
+    /**
+     * Method used to shuffle the stored cards of the deck using the given
+     * shuffler.
+     * @param cs CardShuffler used to shuffle the cards.
+     * @param iNumCards Number of cards in the deck.
+    */
+    protected void shuffleCards(CardShuffler cs, int iNumCards)
+    {
+        cs.shuffle(cards, iNumCards);
+    }
+
     // ---------------------------- Public Methods ----------------------------
 
     /**
      * Method used to shuffle the deck of cards.  Resets the next card method
-     * to pull from the top of the deck.
+     * to pull from the top of the deck.  Uses the shuffler set into the deck
+     * (see setShuffler()).
     */
     public void shuffle()
     {
         nextCard = 0;
+        drawnFrom = -1;
         shuffled = true;
 
-        // psuedo shuffle
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < lastCard; j++) {
-                int p = (int) Math.floor(Math.random() * lastCard);
-                // swap card at j with card at p
-                CardEnum c = cards[j];
-                cards[j] = cards[p];
-                cards[p] = c;
-            }
+        shuffleCards(getShuffler(), lastCard);
+    }
+
+    /**
+     * Method used to put the cards back in their starting (new deck) order,
+     * the decks in definition order followed by the extra cards.  Resets the
+     * next card to the top of the deck and clears the shuffled flag.
+     * @throws IllegalStateException If the deck definition is not known (deck
+     * serialized before it was kept).
+    */
+    public void reset()
+    {
+        if (deckDef == null)
+            throw new IllegalStateException("CardDeck: deck definition not known, can not reset the deck.");
+
+        int ii = 0;
+
+        for (int i = 0; i < numDecks; i++) {
+            for (int j = 0; j < deckDef.length; j++) setCardEnumAt(ii++, deckDef[j]);
+        }
+        if (extraDef != null) {
+            for (int j = 0; j < extraDef.length; j++) setCardEnumAt(ii++, extraDef[j]);
         }
+
+        nextCard = 0;
+        drawnFrom = -1;
+        shuffled = false;
+    }
+
+    /**
+     * Method used to shuffle the deck using a random source (single pass
+     * Fisher-Yates shuffle, the deck's shuffler is not used or changed).  The
+     * cards are put back in their starting order first (see reset()), so the
+     * card order only depends on the numbers drawn, not on the deck's history.
+     * @param rg RandomGenerator used to shuffle the cards.
+     * @throws IllegalStateException If the deck definition is not known.
+    */
+    public void shuffle(RandomGenerator rg)
+    {
+        reset();
+        shuffled = true;
+
+        shuffleCards(new FisherYatesCardShuffler(rg), lastCard);
+    }
+
+    /**
+     * Method used to shuffle the deck from a seed.  The cards are put back in
+     * their starting order and shuffled with a single pass Fisher-Yates shuffle
+     * driven by a SplitMix64Random seeded with lSeed, so the same seed always
+     * gives the same card order (on any platform or Java version).
+     * @param lSeed Seed of the shuffle.
+     * @throws IllegalStateException If the deck definition is not known.
+    */
+    public void shuffle(long lSeed)
+    {
+        shuffle(new SplitMix64Random(lSeed));
+    }
+
+    /**
+     * Method used to get the shuffler (shuffle strategy) used by the deck.
+     * @return CardShuffler used to shuffle the deck.  If one was not set, the
+     * default FisherYatesCardShuffler is returned.
+    */
+    public CardShuffler getShuffler()
+    {
+        if (shuffler == null) shuffler = new FisherYatesCardShuffler();
+
+        return shuffler;
+    }
+
+    /**
+     * Method used to set the shuffler (shuffle strategy) used by the deck.
+     * Note: the shuffler is not serialized with the deck, the default shuffler
+     * is used by a deserialized deck until set again.
+     * @param cs CardShuffler to use when shuffling the deck.  If null, the
+     * default (FisherYatesCardShuffler) shuffler is used.
+    */
+    public void setShuffler(CardShuffler cs)
+    {
+        shuffler = cs;
+    }
+
+    /**
+     * Method used to get the card factory used to create the cards handed
+     * out by the deck.
+     * @return CardFactory used by the deck.
+    */
+    public CardFactory getCardFactory()
+    {
+        return cardFactory;
     }
 
     /**
@@ -211,11 +504,14 @@ public class CardDeck
     public Card getNextCard(boolean bLeaveInDeck)
     {
         if (hasMoreCards()) {
-            CardEnum ceV = cards[nextCard];  // get value of card from deck
+            CardEnum ceV = cardEnumAt(nextCard);  // get value of card from deck
 
-            if (!bLeaveInDeck) nextCard++;
+            if (!bLeaveInDeck) {
+                nextCard++;
+                drawnFrom = -1;
+            }
 
-            return createNewCard(ceV);
+            return cardFactory.createCard(ceV);
         }
         else {
             return null;
@@ -232,6 +528,144 @@ public class CardDeck
         return getNextCard(false);
     }
 
+    /**
+     * Method used to deal a card picked at random from the cards left in the
+     * deck (the card picked is swapped to the next card position and dealt).
+     * Dealing all cards this way is the same as shuffling and dealing, so
+     * a deck can be dealt without being shuffled first.
+     * @param rg RandomGenerator used to pick the card.
+     * @return A Card instance if a card is available, else a null if not.
+    */
+    public Card getRandomCard(RandomGenerator rg)
+    {
+        if (!hasMoreCards()) return null;
+
+        int p = nextCard + rg.nextInt(lastCard - nextCard);
+
+        if (p != nextCard) swapCards(nextCard, p);
+
+        Card ret = getNextCard(false);
+
+        drawnFrom = p;
+
+        return ret;
+    }
+
+    /**
+     * Method used to deal cards to a set of hands one card at a time (round
+     * robin), the same as deal(hands, iCardsEach, 1).
+     * @param hands Hands to deal to, in dealing order.
+     * @param iCardsEach Number of cards to deal to each hand.
+     * @throws IllegalArgumentException If a hand does not have room for the cards.
+     * @throws IllegalStateException If the deck does not have enough cards left.
+    */
+    public void deal(CardHand[] hands, int iCardsEach)
+    {
+        deal(hands, iCardsEach, 1);
+    }
+
+    /**
+     * Method used to deal cards to a set of hands in blocks of cards (each
+     * hand in turn gets iBlockSize cards, the last block is smaller if
+     * iCardsEach is not a multiple of it).  The cards are taken from the deck
+     * in one pass and put in the hands without sorting, sorted hands are
+     * sorted once after the deal.  Nothing is dealt if the deck does not have
+     * enough cards left or a hand does not have room for the cards.
+     * @param hands Hands to deal to, in dealing order.
+     * @param iCardsEach Number of cards to deal to each hand.
+     * @param iBlockSize Number of cards dealt to a hand at a time (1 - round
+     * robin, iCardsEach - all of a hand's cards at once).
+     * @throws IllegalArgumentException If a hand does not have room for the
+     * cards, a hand is given twice or the card counts are not valid.
+     * @throws IllegalStateException If the deck does not have enough cards left.
+    */
+    public void deal(CardHand[] hands, int iCardsEach, int iBlockSize)
+    {
+        checkDeal(hands, iCardsEach, iBlockSize);
+        for (int h = 0; h < hands.length; h++) {
+            if (hands[h].getMaximumCardCount() - hands[h].getCardCount() < iCardsEach)
+                throw new IllegalArgumentException("CardDeck: hand " + h + " does not have room for " + iCardsEach + " cards.");
+        }
+
+        int[] slots = new int[hands.length];
+        int p = nextCard;
+
+        for (int iDealt = 0; iDealt < iCardsEach; iDealt += iBlockSize) {
+            int iBlock = Math.min(iBlockSize, iCardsEach - iDealt);
+            for (int h = 0; h < hands.length; h++) {
+                CardHand hand = hands[h];
+                for (int j = 0; j < iBlock; j++)
+                    slots[h] = hand.dealCard(cardFactory.createCard(cardEnumAt(p++)), slots[h]);
+            }
+        }
+        nextCard = p;
+        drawnFrom = -1;
+
+        if (iCardsEach > 0) {
+            for (int h = 0; h < hands.length; h++) hands[h].dealDone();
+        }
+    }
+
+    /**
+     * Method used to deal card values to a set of card value arrays one card
+     * at a time (round robin), the same as deal(hands, iCardsEach, 1).
+     * @param hands Card value arrays to deal to, in dealing order.
+     * @param iCardsEach Number of cards to deal to each array.
+     * @throws IllegalArgumentException If an array is too short for the cards.
+     * @throws IllegalStateException If the deck does not have enough cards left.
+    */
+    public void deal(int[][] hands, int iCardsEach)
+    {
+        deal(hands, iCardsEach, 1);
+    }
+
+    /**
+     * Method used to deal card values (CardEnum.getValue()) to a set of card
+     * value arrays in blocks of cards, no Card instances are created (for
+     * simulations).  Each array gets its values from position 0 in the order
+     * dealt (not sorted).  Nothing is dealt if the deck does not have enough
+     * cards left or an array is too short.
+     * @param hands Card value arrays to deal to, in dealing order.
+     * @param iCardsEach Number of cards to deal to each array.
+     * @param iBlockSize Number of cards dealt to an array at a time (1 - round
+     * robin, iCardsEach - all of an array's cards at once).
+     * @throws IllegalArgumentException If an array is too short for the cards,
+     * an array is given twice or the card counts are not valid.
+     * @throws IllegalStateException If the deck does not have enough cards left.
+    */
+    public void deal(int[][] hands, int iCardsEach, int iBlockSize)
+    {
+        checkDeal(hands, iCardsEach, iBlockSize);
+        for (int h = 0; h < hands.length; h++) {
+            if (hands[h].length < iCardsEach)
+                throw new IllegalArgumentException("CardDeck: card array " + h + " is too short for " + iCardsEach + " cards.");
+        }
+
+        int p = nextCard;
+
+        for (int iDealt = 0; iDealt < iCardsEach; iDealt += iBlockSize) {
+            int iBlock = Math.min(iBlockSize, iCardsEach - iDealt);
+            for (int h = 0; h < hands.length; h++) {
+                int[] hand = hands[h];
+                for (int j = 0; j < iBlock; j++) hand[iDealt + j] = cardEnumAt(p++).getValue();
+            }
+        }
+        nextCard = p;
+        drawnFrom = -1;
+    }
+
+    /**
+     * Method used to put all of the cards dealt back in the deck without
+     * shuffling (the deck is dealt again from the top).  With getRandomCard()
+     * this puts the cards dealt back into the random pool, the way a continuous
+     * shuffling machine does.
+    */
+    public void returnCards()
+    {
+        nextCard = 0;
+        drawnFrom = -1;
+    }
+
     /**
      * Method used to return if the card deck has more cards or not.
      * @return A boolean (true) if more cards available, else false.
@@ -241,6 +675,33 @@ public class CardDeck
         return nextCard < lastCard;
     }
 
+    /**
+     * Method used to return the number of cards in the deck (dealt or not).
+     * @return An int with the number of cards in the deck.
+    */
+    public int getCardCount()
+    {
+        return lastCard;
+    }
+
+    /**
+     * Method used to return the number of cards dealt since the last shuffle.
+     * @return An int with the number of cards dealt.
+    */
+    public int getCardsDealt()
+    {
+        return nextCard;
+    }
+
+    /**
+     * Method used to return the number of cards left to deal.
+     * @return An int with the number of cards remaining in the deck.
+    */
+    public int getCardsRemaining()
+    {
+        return lastCard - nextCard;
+    }
+
     /**
      * Method used to return the number of decks used in this 'deck' of
      * cards (could be more than one).
@@ -284,7 +745,7 @@ public class CardDeck
                        public Object next()
                        {
                            if (hasNext()) {
-                               return createNewCard(cards[currentCard++]);
+                               return cardFactory.createCard(cardEnumAt(currentCard++));
                            }
                            else {
                                throw new NoSuchElementException("No more cards in deck.");
@@ -309,7 +770,7 @@ public class CardDeck
     */
     public String toString()
     {
-        return "CardDeck: (Decks-" + numDecks + ", Number of Cards-" + lastCard + 
+        return getClass().getSimpleName() + ": (Decks-" + numDecks + ", Number of Cards-" + lastCard + 
                 ", CurrentCard-" + nextCard + ")";
     }
 }
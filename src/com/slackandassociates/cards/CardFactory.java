@@ -0,0 +1,35 @@
+package com.slackandassociates.cards;
+
+import java.io.*;
+
+/**
+ * Interface defining a card factory, used by the CardDeck class to create the
+ * Card instances handed out by the deck (getNextCard and the deck iterator).<br>
+ * The interface has a single method so a card implementation constructor can be
+ * used directly as the factory, for example:
+ * <pre>
+ * {@code
+ *   CardDeck deck = new CardDeck(PlayingCardDeck.PC_DECK, PlayingCard::new);
+ * }
+ * </pre>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see CardDeck
+ * @see ClassCardFactory
+ * @see FlyweightCardFactory
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public interface CardFactory extends Serializable
+{
+    /**
+     * Method used to create a card with the given card value.
+     * @param ce CardEnum value of the card to create.
+     * @return Card instance with the card value given.
+    */
+    public Card createCard(CardEnum ce);
+}
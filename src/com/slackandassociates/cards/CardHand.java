@@ -18,17 +18,29 @@ import java.io.*;
  * <li> 2004-08-20 - Modified to use Card/CardEnum interfaces.
  * <li> 2014-01-02 - Fixed a long standing bug in the Replace method in that
  * non-sorted hands would lose cards during the Replace call.
+ * <li> 2026-10-17 - Sorted hands now use binary search insertion instead of
+ * resorting the whole hand on each add.  Added the addAll methods (sorts once)
+ * and the protected cardAdded/cardRemoved hooks.  Fixed the card count being
+ * decremented when removing an empty slot.
+ * <li> 2026-10-17 - Empty slots of a deserialized hand are set back to EMPTY_CARD
+ * (identity compares).  Added slot restore used by the CardStateCodec.
+ * <li> 2026-10-17 - Added package methods used by CardDeck.deal() to put the
+ * dealt cards in the hand and sort it once.
+ * <li> 2026-10-17 - Sorted hands only set the comparison mode of cards not in it
+ * yet, shared (flyweight) cards are swapped for the shared card in the hand's mode.
  * </ul>
  * @see Card
  * @see CardEnum
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2001-07-29
- * @version Version 2.01 2014-01-02
+ * @version Version 2.05 2026-10-17
 */
 public class CardHand
     implements Serializable
 {
+    static final long serialVersionUID = 8582298540214328412L;
+
     /** Default number of cards in a hand (5) if not specified during
      * construction.
     */
@@ -105,28 +117,184 @@ public class CardHand
 
     // ------------------------- Private Methods ----------------------------
 
+    /** Method used to move all of the cards in the hand to the first slots
+     * (keeping their order) and put all of the empty cards last.  Done in place.
+    */
+    private void compactHand()
+    {
+        int j = 0;
+
+        for (int i = 0; i < maxCards; i++) {
+            if (cards[i] != EMPTY_CARD) {
+                if (i != j) {
+                    cards[j] = cards[i];
+                    cards[i] = EMPTY_CARD;
+                }
+                j++;
+            }
+        }
+    }
+
+    /** Method used to compact the hand if any of the first numCards slots
+     * are empty (cards removed from a sorted hand leave empty slots).
+    */
+    private void compactIfNeeded()
+    {
+        for (int i = 0; i < numCards; i++) {
+            if (cards[i] == EMPTY_CARD) {
+                compactHand();
+                break;
+            }
+        }
+    }
+
+    /** Method used to insert a card into the first iCount (sorted, compacted)
+     * slots of the hand, keeping them sorted (highest first).  Uses a binary
+     * search to find the position, cards equal to the card stay before it.
+     * @param card Card to insert.
+     * @param iCount Number of (sorted) cards at the start of the hand, slot
+     * iCount must be empty.
+    */
+    private void insertSorted(Card card, int iCount)
+    {
+        int lo = 0;
+        int hi = iCount;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cards[mid].compareTo(card) >= 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        System.arraycopy(cards, lo, cards, lo + 1, iCount - lo);
+        cards[lo] = card;
+    }
+
     /** Method used to sort the hand (if the hand is stored in sorted order).
-     * Method is called anytime a card is added to the hand (from add or replace).
-     * Sort method is a simple bubble sort.  All empty cards (an no cards) are placed
-     * in the hand last.
+     * Method is called when a set of cards are added to the hand (addAll) or
+     * the comparison mode is changed.  Sort is a binary insertion sort (highest
+     * card first).  All empty cards (no cards) are placed in the hand last.
     */
     private void sortHand()
     {
+        compactHand();
+
         // only need to sort the hand if have more than one card...
-        if (numCards > 1) {
-            for (int i = 0; i < (maxCards-1); i++) {
-                for (int j = (i+1); j < maxCards; j++) {
-                    CardEnum cv = cards[i].getCardValue();
-                    if ((cards[i].compareTo(cards[j]) < 0) || (cv == BlankCardEnum.NO_CARD)) {
-                        Card t = cards[i]; // swap
-                        cards[i] = cards[j];
-                        cards[j] = t;
-                    }
-                }
-            }
+        for (int i = 1; i < numCards; i++) {
+            Card c = cards[i];
+            cards[i] = EMPTY_CARD;
+            insertSorted(c, i);
         }
     }
 
+    /** Method used to return a card in the hand's comparison mode.  The mode
+     * is only set if the card is not in it, a shared (flyweight) card is not
+     * changed, the shared card in the hand's mode is returned instead.
+     * @param card Card going in the (sorted) hand.
+     * @return Card to put in the hand.
+    */
+    private Card inHandMode(Card card)
+    {
+        if (card.getCompMode() == compMode) return card;
+        if (card instanceof FlyweightCard) return ((FlyweightCard) card).withCompMode(compMode);
+
+        card.setCompMode(compMode);
+
+        return card;
+    }
+
+    /** Method used to put a card in the first empty slot of the hand, starting
+     * the search at the given slot.  Hand must not be full.
+     * @param card Card to put in the hand.
+     * @param iStart Slot to start the search for an empty slot at.
+     * @return Slot the card was put in.
+    */
+    private int putInEmptySlot(Card card, int iStart)
+    {
+        int i = iStart;
+
+        while (cards[i] != EMPTY_CARD) i++;
+        if (handSorted) card = inHandMode(card);
+        cards[i] = card;
+        numCards++;
+        cardAdded(card);
+
+        return i;
+    }
+
+    /** Method used to read a serialized hand.  The empty slots are read as
+     * copies of the empty card, put EMPTY_CARD back in them.
+     * @param in ObjectInputStream to read the hand from.
+     * @throws IOException If the hand can not be read.
+     * @throws ClassNotFoundException If a card class can not be found.
+    */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        for (int i = 0; i < cards.length; i++) {
+            if (cards[i] instanceof BlankCard) cards[i] = EMPTY_CARD;
+        }
+    }
+
+    // ------------------------- Package Methods ----------------------------
+
+    /** Method used to put a card in an empty slot without moving any cards
+     * (restores a saved hand slot for slot).  The card is given the hand's
+     * comparison mode if the hand is sorted.
+     * @param card Card to put in the slot.
+     * @param idx Index of the empty slot.
+    */
+    void restoreSlot(Card card, int idx)
+    {
+        if (handSorted) card = inHandMode(card);
+        cards[idx] = card;
+        numCards++;
+        cardAdded(card);
+    }
+
+    /** Method used to put a dealt card in the first empty slot at or after
+     * iSlot without sorting the hand (dealDone() sorts it).  Hand must not be
+     * full.
+     * @param card Card dealt to the hand.
+     * @param iSlot Slot to start looking for an empty slot at.
+     * @return Slot the card was put in (start of the next search).
+    */
+    int dealCard(Card card, int iSlot)
+    {
+        return putInEmptySlot(card, iSlot);
+    }
+
+    /** Method used to finish a deal to the hand (sorts the hand once if it is
+     * stored in sorted order).
+    */
+    void dealDone()
+    {
+        if (handSorted) sortHand();
+    }
+
+    // ------------------------ Protected Methods ---------------------------
+
+    /** Method called when a card is put in the hand (add, addAll, replace).
+     * Does nothing, subclasses can override to track the cards in the hand.
+     * @param card Card put in the hand.
+    */
+    protected void cardAdded(Card card)
+    {
+        // empty
+    }
+
+    /** Method called when a card is taken out of the hand (remove, removeAll,
+     * replace).  Does nothing, subclasses can override to track the cards in
+     * the hand.
+     * @param card Card taken out of the hand.
+    */
+    protected void cardRemoved(Card card)
+    {
+        // empty
+    }
+
     // -------------------------- Public Methods ----------------------------
 
     /** Method adds a card to the hand.  Puts the card in the first available
@@ -134,7 +302,9 @@ public class CardHand
      * to the hand.  If the hand is stored in sorted order, the card is added
      * in sorted order. <br>
      * Adding cards to a hand that is sorted may change the positions of the
-     * other cards and empty slots in the hand.
+     * other cards and empty slots in the hand.  A sorted hand holds shared
+     * (FlyweightCardFactory) cards as the shared card in its comparison mode
+     * (an equal card, possibly not the instance added).
      * @param card Card instance to add to the hand.
      * @return A boolean value indicating success or failure of the add.
     */
@@ -143,23 +313,70 @@ public class CardHand
         boolean added = false;
 
         if ((numCards != maxCards) && (card != null)) {
-            for (int i = 0; i < maxCards; i++) {
-                if (cards[i] == EMPTY_CARD) {
-                    numCards++;
-                    cards[i] = card;
-                    if (handSorted) cards[i].setCompMode(compMode);
-                    added = true;
-                    break;
+            if (handSorted) {
+                // binary search the sorted cards for the position to insert at
+                compactIfNeeded();
+                card = inHandMode(card);
+                insertSorted(card, numCards);
+                numCards++;
+                cardAdded(card);
+            }
+            else {
+                putInEmptySlot(card, 0);
+            }
+            added = true;
+        }
+
+        return added;
+    }
+
+    /** Method adds a set of cards to the hand.  Cards are put in the available
+     * slots in the order given (null cards are skipped) until the hand is full.
+     * If the hand is stored in sorted order, the hand is sorted once after all
+     * of the cards are added.
+     * @param cs Cards to add to the hand.
+     * @return Number of cards added to the hand.
+    */
+    public int addAll(Card... cs)
+    {
+        int iAdded = 0;
+        int iSlot = 0;
+
+        if (cs != null) {
+            for (int i = 0; (i < cs.length) && (numCards != maxCards); i++) {
+                if (cs[i] != null) {
+                    iSlot = putInEmptySlot(cs[i], iSlot);
+                    iAdded++;
                 }
             }
         }
 
-        // need to sort it in?
-        if ((added) && (handSorted)) {
-            sortHand();
+        if ((iAdded > 0) && (handSorted)) sortHand();
+
+        return iAdded;
+    }
+
+    /** Method adds the next iNumCards cards from a card deck to the hand.  Stops
+     * early if the hand is full or the deck runs out of cards.  If the hand is
+     * stored in sorted order, the hand is sorted once after all of the cards are
+     * added.
+     * @param deck CardDeck to take the cards from.
+     * @param iNumCards Number of cards to take from the deck.
+     * @return Number of cards added to the hand.
+    */
+    public int addAll(CardDeck deck, int iNumCards)
+    {
+        int iAdded = 0;
+        int iSlot = 0;
+
+        while ((iAdded < iNumCards) && (numCards != maxCards) && (deck.hasMoreCards())) {
+            iSlot = putInEmptySlot(deck.getNextCard(), iSlot);
+            iAdded++;
         }
 
-        return added;
+        if ((iAdded > 0) && (handSorted)) sortHand();
+
+        return iAdded;
     }
 
     /** Method used to remove a card from the hand (clear it) and return the
@@ -176,8 +393,11 @@ public class CardHand
             return null;
         else {
             Card ret = cards[idx];
-            cards[idx] = EMPTY_CARD;
-            numCards--;
+            if (ret != EMPTY_CARD) {
+                cards[idx] = EMPTY_CARD;
+                numCards--;
+                cardRemoved(ret);
+            }
             return ret;
         }
     }
@@ -189,7 +409,9 @@ public class CardHand
     {
         numCards = 0;
         for (int i = 0; i < maxCards; i++) {
+            Card c = cards[i];
             cards[i] = EMPTY_CARD;
+            if ((c != null) && (c != EMPTY_CARD)) cardRemoved(c);
         }
     }
 
@@ -199,23 +421,7 @@ public class CardHand
     */
     public void compressHand()
     {
-        Card[] temp = new Card[maxCards];
-        int j = 0;
-
-        // initialize temporary hand
-        for (int i = 0; i < maxCards; i++) {
-            temp[i] = EMPTY_CARD;
-        }
-        // move good cards over to temp
-        for (int i = 0; i < maxCards; i++) {
-            if (cards[i] != EMPTY_CARD) {
-                temp[j++] = cards[i];
-            }
-        }
-        // replace hand with good hand
-        for (int i = 0; i < maxCards; i++) {
-            cards[i] = temp[i];
-        }
+        compactHand();
     }
 
     /** Method used to return the card in the index position requested.
@@ -254,7 +460,8 @@ public class CardHand
             }
             else {
                 cards[idx] = card; // replace it...
-                numCards++; // remove decremented card count
+                numCards++;
+                cardAdded(card);
             }
         }
 
@@ -352,7 +559,7 @@ public class CardHand
         if (handSorted) {
             for (int i = 0; i < maxCards; i++) {
                 if (cards[i] != EMPTY_CARD) {
-                    cards[i].setCompMode(compMode);
+                    cards[i] = inHandMode(cards[i]);
                 }
             }
             sortHand(); // resort hand into new mode (possibly)
@@ -0,0 +1,529 @@
+package com.slackandassociates.cards;
+
+import java.util.*;
+import java.io.*;
+import java.awt.*;
+import java.awt.image.*;
+import javax.imageio.*;
+
+/**
+ * Class used to render card hands (and tables of hands) to images without a
+ * display (headless servers, replays, etc.), returned either as an image or as
+ * encoded image bytes (PNG by default).  Cards in a hand are fanned out by the
+ * card image offset (IMAGE_OFFSET of the image cache) left to right, or top to
+ * bottom if vertical.  A table is the hands laid out one after the other, across
+ * the fan direction.<br>
+ * Hand (and table) images and their encoded bytes are kept in a least recently
+ * used cache keyed by the cards in the hand (in hand order), so a hand that has
+ * not changed is not drawn or encoded again.  The renderer is safe to use from
+ * multiple threads. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Renders use the settings (format, gap) read with the cache
+ * generation, images made with old settings are not cached.  Formats without
+ * alpha (jpg) written from an RGB copy, unknown formats rejected.
+ * </ul>
+ * @see CardImageCache
+ * @see CardHand
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class CardHandRenderer
+{
+    // public statics
+    /** Default image format written (ImageIO format name). */
+    public static final String DEF_FORMAT = "png";
+    /** Default number of hand (and table) images cached. */
+    public static final int DEF_MAX_CACHED = 256;
+
+    // private statics
+    private static final char KEY_HAND_SEP = '\uFFFF';
+
+    // private references
+    private CardImageCache cache = null;
+    private int iOffset = 0;
+    private boolean bVertical = false;
+    private int iMargin = 0;
+    private int iGap = 0;              // images lock
+    private Color bgColor = null;
+    private String format = DEF_FORMAT; // images lock
+    private long lGeneration = 0L;      // images lock, changed when the cache is cleared
+    private int iMaxCached = DEF_MAX_CACHED;
+    /** Composited images, keyed by hand contents (access ordered for LRU). */
+    private final LinkedHashMap images = new LinkedHashMap(64, 0.75f, true);
+    /** Encoded images, keyed by hand contents (access ordered for LRU). */
+    private final LinkedHashMap encoded = new LinkedHashMap(64, 0.75f, true);
+    private long lHits = 0L;
+    private long lMisses = 0L;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor used to create a renderer that fans the cards horizontally by
+     * the image offset of the image cache, with no margin and a transparent
+     * background.
+     * @param cic CardImageCache to get the card images from.
+    */
+    public CardHandRenderer(CardImageCache cic)
+    {
+        this(cic, cic.getImageOffset(), false);
+    }
+
+    /**
+     * Constructor used to create a renderer with the given fan offset and
+     * direction, with no margin and a transparent background.
+     * @param cic CardImageCache to get the card images from.
+     * @param iCardOffset Offset between the cards of a hand (in pixels).
+     * @param bVert True to fan the cards top to bottom, false for left to right.
+    */
+    public CardHandRenderer(CardImageCache cic, int iCardOffset, boolean bVert)
+    {
+        this(cic, iCardOffset, bVert, 0, null);
+    }
+
+    /**
+     * Constructor used to create a renderer.
+     * @param cic CardImageCache to get the card images from.
+     * @param iCardOffset Offset between the cards of a hand (in pixels).
+     * @param bVert True to fan the cards top to bottom, false for left to right.
+     * @param iMarg Margin around the image (and between the hands of a table,
+     * in pixels).
+     * @param bg Background color, null for transparent.
+    */
+    public CardHandRenderer(CardImageCache cic, int iCardOffset, boolean bVert, int iMarg, Color bg)
+    {
+        cache = cic;
+        iOffset = Math.max(0, iCardOffset);
+        bVertical = bVert;
+        iMargin = Math.max(0, iMarg);
+        iGap = iMargin;
+        bgColor = bg;
+    }
+
+    // -------------------------- Private Methods -----------------------------
+
+    private static void appendKey(StringBuffer sb, CardHand hand)
+    {
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) sb.append((char) (c.getCardValue().getValue() + 1)); // no card (-1) is 0
+        }
+    }
+
+    private Object getCached(LinkedHashMap map, String key)
+    {
+        synchronized (images) {
+            Object ret = map.get(key);
+
+            if (ret != null) lHits++; else lMisses++;
+
+            return ret;
+        }
+    }
+
+    private void putCached(LinkedHashMap map, String key, Object obj, long lGen)
+    {
+        synchronized (images) {
+            if (lGen != lGeneration) return; // made with settings changed since
+            map.put(key, obj);
+            trimCache(map);
+        }
+    }
+
+    private long getGeneration()
+    {
+        synchronized (images) {
+            return lGeneration;
+        }
+    }
+
+    private void trimCache(LinkedHashMap map)
+    {
+        Iterator it = map.values().iterator();
+
+        while ((map.size() > iMaxCached) && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private BufferedImage createImage(int iWidth, int iHeight)
+    {
+        BufferedImage ret = new BufferedImage(Math.max(1, iWidth), Math.max(1, iHeight),
+                                              (bgColor == null) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        if (bgColor != null) {
+            Graphics2D g = ret.createGraphics();
+            g.setColor(bgColor);
+            g.fillRect(0, 0, ret.getWidth(), ret.getHeight());
+            g.dispose();
+        }
+
+        return ret;
+    }
+
+    private BufferedImage drawHand(CardHand hand)
+    {
+        int iCW = cache.getImageWidth();
+        int iCH = cache.getImageHeight();
+        int iFan = Math.max(0, hand.getCardCount() - 1) * iOffset;
+        BufferedImage ret = bVertical ? createImage(iCW + iMargin * 2, iCH + iFan + iMargin * 2) :
+                                        createImage(iCW + iFan + iMargin * 2, iCH + iMargin * 2);
+        Graphics2D g = ret.createGraphics();
+        int iPos = iMargin;
+
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) {
+                if (bVertical)
+                    cache.drawCardImage(g, c, iMargin, iPos, null);
+                else
+                    cache.drawCardImage(g, c, iPos, iMargin, null);
+                iPos += iOffset;
+            }
+        }
+        g.dispose();
+
+        return ret;
+    }
+
+    private BufferedImage drawTable(CardHand[] hands, int iHandGap)
+    {
+        BufferedImage[] his = new BufferedImage[hands.length];
+        int iW = 0;
+        int iH = 0;
+
+        for (int i = 0; i < hands.length; i++) {
+            his[i] = getHandImage(hands[i]);
+            if (bVertical) {
+                iW += his[i].getWidth() - ((i > 0) ? iMargin - iHandGap : 0);
+                iH = Math.max(iH, his[i].getHeight());
+            }
+            else {
+                iW = Math.max(iW, his[i].getWidth());
+                iH += his[i].getHeight() - ((i > 0) ? iMargin - iHandGap : 0);
+            }
+        }
+
+        BufferedImage ret = createImage(iW, iH);
+        Graphics2D g = ret.createGraphics();
+        int iPos = 0;
+
+        // hand images have their own margins, hands overlap by the margin less the gap
+        for (int i = 0; i < his.length; i++) {
+            if (bVertical) {
+                g.drawImage(his[i], iPos, 0, null);
+                iPos += his[i].getWidth() - iMargin + iHandGap;
+            }
+            else {
+                g.drawImage(his[i], 0, iPos, null);
+                iPos += his[i].getHeight() - iMargin + iHandGap;
+            }
+        }
+        g.dispose();
+
+        return ret;
+    }
+
+    private static BufferedImage toRGB(BufferedImage img)
+    {
+        BufferedImage ret = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = ret.createGraphics();
+
+        g.setColor(Color.white); // transparent areas
+        g.fillRect(0, 0, ret.getWidth(), ret.getHeight());
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+
+        return ret;
+    }
+
+    private static byte[] encode(BufferedImage img, String sFormat)
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(16 * 1024);
+
+        try {
+            boolean bOk = ImageIO.write(img, sFormat, bos);
+
+            // formats without alpha (jpg) have no writer for ARGB images
+            if (!bOk && img.getColorModel().hasAlpha()) {
+                bos.reset();
+                bOk = ImageIO.write(toRGB(img), sFormat, bos);
+            }
+            if (!bOk) throw new IllegalStateException("No image writer for format: " + sFormat);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("CardHandRenderer.encode: " + e);
+        }
+
+        return bos.toByteArray();
+    }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to return the key used to cache the images of a hand (the
+     * card values held by the hand in hand order).
+     * @param hand CardHand to get the key of.
+     * @return String key of the hand contents.
+    */
+    public static String getHandKey(CardHand hand)
+    {
+        StringBuffer sb = new StringBuffer(hand.getMaximumCardCount());
+
+        appendKey(sb, hand);
+
+        return sb.toString();
+    }
+
+    /**
+     * Method used to return the key used to cache the images of a table (the
+     * keys of the hands, in table order).
+     * @param hands Array of CardHand's on the table.
+     * @return String key of the table contents.
+    */
+    public static String getTableKey(CardHand[] hands)
+    {
+        StringBuffer sb = new StringBuffer(64);
+
+        sb.append(KEY_HAND_SEP);
+        for (int i = 0; i < hands.length; i++) {
+            appendKey(sb, hands[i]);
+            sb.append(KEY_HAND_SEP);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Method used to return the image of a hand.  The image is drawn only if
+     * the hand contents are not cached.  The image returned is shared (cached)
+     * and should not be drawn on.
+     * @param hand CardHand to render.
+     * @return BufferedImage of the hand.
+    */
+    public BufferedImage getHandImage(CardHand hand)
+    {
+        String key = getHandKey(hand);
+        long lGen = getGeneration();
+        BufferedImage ret = (BufferedImage) getCached(images, key);
+
+        if (ret == null) {
+            ret = drawHand(hand);
+            putCached(images, key, ret, lGen);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return the encoded image of a hand.  The hand is only
+     * drawn and encoded if the hand contents are not cached.  The array returned
+     * is shared (cached) and should not be changed.
+     * @param hand CardHand to render.
+     * @return byte array of the encoded image of the hand.
+    */
+    public byte[] getHandBytes(CardHand hand)
+    {
+        String key = getHandKey(hand);
+        String sFormat;
+        long lGen;
+
+        synchronized (images) {
+            sFormat = format;
+            lGen = lGeneration;
+        }
+
+        byte[] ret = (byte[]) getCached(encoded, key);
+
+        if (ret == null) {
+            ret = encode(getHandImage(hand), sFormat);
+            putCached(encoded, key, ret, lGen);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return the image of a table of hands.  Each hand is
+     * laid out one after the other (top to bottom when the cards are fanned
+     * left to right), separated by the gap.  Uses the cached hand images.
+     * The image returned is shared (cached) and should not be drawn on.
+     * @param hands Array of CardHand's on the table.
+     * @return BufferedImage of the table.
+    */
+    public BufferedImage getTableImage(CardHand[] hands)
+    {
+        String key = getTableKey(hands);
+        int iTableGap;
+        long lGen;
+
+        synchronized (images) {
+            iTableGap = iGap;
+            lGen = lGeneration;
+        }
+
+        BufferedImage ret = (BufferedImage) getCached(images, key);
+
+        if (ret == null) {
+            ret = drawTable(hands, iTableGap);
+            putCached(images, key, ret, lGen);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return the encoded image of a table of hands (see
+     * getTableImage()).  The array returned is shared (cached) and should not
+     * be changed.
+     * @param hands Array of CardHand's on the table.
+     * @return byte array of the encoded image of the table.
+    */
+    public byte[] getTableBytes(CardHand[] hands)
+    {
+        String key = getTableKey(hands);
+        String sFormat;
+        long lGen;
+
+        synchronized (images) {
+            sFormat = format;
+            lGen = lGeneration;
+        }
+
+        byte[] ret = (byte[]) getCached(encoded, key);
+
+        if (ret == null) {
+            ret = encode(getTableImage(hands), sFormat);
+            putCached(encoded, key, ret, lGen);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to set the gap between the hands of a table.  Clears the
+     * cached images.
+     * @param iTableGap Gap between the hands (in pixels), defaults to the margin.
+    */
+    public void setTableGap(int iTableGap)
+    {
+        synchronized (images) {
+            iGap = Math.max(0, iTableGap);
+            clearCache();
+        }
+    }
+
+    /**
+     * Method used to return the gap between the hands of a table.
+     * @return Gap between the hands (in pixels).
+    */
+    public int getTableGap()
+    {
+        synchronized (images) {
+            return iGap;
+        }
+    }
+
+    /**
+     * Method used to set the image format written.  Clears the cached images.
+     * Formats without alpha ("jpg") are written from a copy of the image with
+     * the transparent areas white (set a background color to choose it).
+     * @param sFormat ImageIO format name ("png", "gif", "jpg", etc.).
+     * @throws IllegalArgumentException If ImageIO has no writer for the format.
+    */
+    public void setFormat(String sFormat)
+    {
+        if ((sFormat == null) || !ImageIO.getImageWritersByFormatName(sFormat).hasNext())
+            throw new IllegalArgumentException("CardHandRenderer: no image writer for format " + sFormat + ".");
+
+        synchronized (images) {
+            format = sFormat;
+            lGeneration++;
+            encoded.clear();
+        }
+    }
+
+    /**
+     * Method used to return the image format written.
+     * @return ImageIO format name.
+    */
+    public String getFormat()
+    {
+        synchronized (images) {
+            return format;
+        }
+    }
+
+    /**
+     * Method used to set the maximum number of images (hand and table) kept
+     * in each of the image and encoded image caches.
+     * @param iMax Maximum number of images cached, 0 to not cache.
+    */
+    public void setMaxCached(int iMax)
+    {
+        synchronized (images) {
+            iMaxCached = Math.max(0, iMax);
+            trimCache(images);
+            trimCache(encoded);
+        }
+    }
+
+    /**
+     * Method used to return the maximum number of images cached.
+     * @return Maximum number of images cached.
+    */
+    public int getMaxCached()
+    {
+        synchronized (images) {
+            return iMaxCached;
+        }
+    }
+
+    /**
+     * Method used to return the number of requests found in the cache.
+     * @return Cache hits.
+    */
+    public long getCacheHits()
+    {
+        synchronized (images) {
+            return lHits;
+        }
+    }
+
+    /**
+     * Method used to return the number of requests that had to draw or
+     * encode the image.
+     * @return Cache misses.
+    */
+    public long getCacheMisses()
+    {
+        synchronized (images) {
+            return lMisses;
+        }
+    }
+
+    /** Method used to release all of the cached images (and reset the counters). */
+    public void clearCache()
+    {
+        synchronized (images) {
+            lGeneration++;
+            images.clear();
+            encoded.clear();
+            lHits = 0L;
+            lMisses = 0L;
+        }
+    }
+
+    /**
+     * Method used to return the image cache used to draw the cards.
+     * @return CardImageCache of the renderer.
+    */
+    public CardImageCache getImageCache()
+    {
+        return cache;
+    }
+}
@@ -3,37 +3,73 @@ package com.slackandassociates.cards;
 import java.util.*;
 import java.io.*;
 import java.awt.*;
+import java.awt.image.*;
+import java.lang.ref.*;
+import java.util.concurrent.*;
+import javax.imageio.*;
+import javax.imageio.stream.*;
 
 /** 
  * Abstract class used to load card images and 'cache' them internally so
  * as to have them available for use by any program using the card implementations.
  * Assumes images stored with the class (within the jar).  Allows the cache to be
  * loaded at a later point than construction.<br>
+ * The cache can optionally be packed into a single image atlas (see
+ * buildImageAtlas()), after which the card images are sub-images of the atlas and
+ * drawCardImage() draws each card as a sub-rectangle of the one atlas image.<br>
+ * Scaled card images (getCardImage(CardEnum, int, int)) are created once and kept
+ * in a least recently used cache limited by the memory the images use.<br>
+ * The cache is safe to use from multiple threads.  Images not loaded by
+ * loadImageCache() are loaded when first asked for, each image is loaded once
+ * (a thread asking for an image being loaded waits on that image only).<br>
+ * Caches loading the same image path and extension share one set of images
+ * (loaded once for the process).  The shared set is released when the last cache
+ * using it is released (see release()) or garbage collected.<br>
  * Implementations should contain needed constants to define the images loaded into
  * the image cache (width, height, path, extension, etc.).<br><br>
  * <b>Changes</b>
  * <ul>
  * <li> 2022-02-21 - Initial release.
+ * <li> 2026-10-17 - Images now cached in an array indexed by card value (no string
+ * keys or hashing on lookup).
+ * <li> 2026-10-17 - Image resources read in bulk (not a byte at a time).  Added
+ * option to load (and decode) the images in parallel.
+ * <li> 2026-10-17 - Added image atlas mode (all card images packed into one
+ * image).  Images now decoded using ImageIO (toolkit does not read '.bmp' images).
+ * <li> 2026-10-17 - Added scaled card images kept in a bounded LRU cache.
+ * <li> 2026-10-17 - Made thread safe, images loaded lazily (once) per card.
+ * <li> 2026-10-17 - Images shared (reference counted) by caches loading the same
+ * images.
+ * <li> 2026-10-17 - Added getImageOffset().
+ * <li> 2026-10-17 - Images read and decoded outside the image map (a load no
+ * longer blocks loads of other images in the same map bin).
  * </ul>
  * @author Michael G. Slack
  * @author mike.g.slack@gmail.com
  * @created 2022-02-21
- * @version Version 1.00 2022-02-20
+ * @version Version 1.07 2026-10-17
 */
 public abstract class CardImageCache
 {
     // private static
-    private static final int INIT_CACHE_SIZE = 70;
+    /** Releases the image sets of the caches no longer in use. */
+    private static final Cleaner CLEANER = Cleaner.create();
+    /** Marks a card with no image (resource missing or not readable). */
+    private static final Image NO_IMAGE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    // public static
+    /** Default memory limit of the scaled image cache (in bytes). */
+    public static final long DEF_SCALED_CACHE_LIMIT = 16L * 1024L * 1024L;
 
     // private references
-    /** Hashtable containing the cached images. */
-    private HashMap cardCache = new HashMap(INIT_CACHE_SIZE);
-    /** Cache loaded flag. */
-    private boolean bImagesLoaded = false;
     /** Path to image to be loaded. */
     private String imgPath = "";
     /** Image extension of image to be loaded. */
     private String imgExt = "";
+    /** Image set (shared with the caches using the same path and extension). */
+    private final CardImageSet set;
+    /** Releases the image set when this cache is released or collected. */
+    private final Cleaner.Cleanable setRelease;
 
     // ------------------------- Constructors -------------------------------
 
@@ -65,51 +101,249 @@ public abstract class CardImageCache
     {
         if (imagePath != null) imgPath = imagePath;
         if (imageExt != null) imgExt = imageExt;
+        set = CardImageSet.acquire(imgPath, imgExt);
+        final CardImageSet rs = set;
+        setRelease = CLEANER.register(this, () -> CardImageSet.release(rs));
         if (bLoadNow) loadImageCache();
     }
 
+    // -------------------------- Private Methods -----------------------------
+
+    private int getAtlasSlot(int iCard)
+    {
+        int[] slots = set.atlasSlots;
+
+        return ((slots != null) && (iCard >= 0) && (iCard < slots.length)) ? slots[iCard] : -1;
+    }
+
+    private Image loadCardImage(final int iCard, final Toolkit tk)
+    {
+        Integer key = Integer.valueOf(iCard);
+
+        while (true) {
+            CompletableFuture f = (CompletableFuture) set.cardImages.get(key);
+
+            if (f == null) {
+                // claim the load, the image is read and decoded outside the map
+                CompletableFuture nf = new CompletableFuture();
+                f = (CompletableFuture) set.cardImages.putIfAbsent(key, nf);
+                if (f == null) {
+                    Image ni = null;
+                    boolean bDone = false;
+                    try {
+                        ni = decodeImage(readImage(iCard), tk);
+                        if (ni == null)
+                            ni = NO_IMAGE;
+                        else
+                            publishImage(iCard, ni);
+                        bDone = true;
+                    }
+                    finally {
+                        if (!bDone) set.cardImages.remove(key, nf); // failed, can be tried again
+                        nf.complete(ni);
+                    }
+                    return (ni == NO_IMAGE) ? null : ni;
+                }
+            }
+
+            Image img = (Image) f.join(); // waits on this image only
+            if (img != null) return (img == NO_IMAGE) ? null : img;
+            // the load threw, try it again here
+        }
+    }
+
+    private void publishImage(int iCard, Image img)
+    {
+        synchronized (set.cacheLock) {
+            Image[] cc = set.cardCache;
+            Image[] nc = new Image[Math.max(cc.length, iCard + 1)];
+
+            System.arraycopy(cc, 0, nc, 0, cc.length);
+            nc[iCard] = img;
+            set.cardCache = nc;
+        }
+    }
+
+    private static Long scaledKey(int iCard, int iWidth, int iHeight)
+    {
+        return Long.valueOf(((long) iCard << 32) | ((long) (iWidth & 0xFFFF) << 16) | (iHeight & 0xFFFF));
+    }
+
+    private static long imageBytes(Image img)
+    {
+        return 4L * img.getWidth(null) * img.getHeight(null);
+    }
+
+    private void trimScaledCache()
+    {
+        Iterator it = set.scaledCache.values().iterator();
+
+        while ((set.scaledBytes > set.scaledLimit) && it.hasNext()) {
+            set.scaledBytes -= imageBytes((Image) it.next());
+            it.remove();
+        }
+    }
+
     // ------------------------- Protected Methods ----------------------------
 
     /**
      * Method used to load the card image from the resource (jar file) and
-     * save it as an 'Image' into the hashtable.<br>
+     * save it as an 'Image' into the cache.<br>
      * Assumption is that the images are stored within the jar containing the
      * card implementation image cache class and that generally, they will be
-     * the numeric value of the implemented card - i.e., '/path/1.gif', etc.
+     * the numeric value of the implemented card - i.e., '/path/1.gif', etc.<br>
+     * During a parallel load (loadImageCache(int)) the image is read and decoded
+     * on the load executor.  Does nothing if the image is already loaded.
      * @param iCard Int containing the card to load and save in the cache.
-     * Keys the cached on the int value of the card.
+     * Cached by the int value of the card.
      * @param tk Toolkit used to create the image with.
     */
-    protected void loadImage(int iCard, Toolkit tk)
+    protected void loadImage(final int iCard, final Toolkit tk)
+    {
+        if (set.loader != null) {
+            // parallel load, read and decode the image on the load executor
+            set.loads.add(set.loader.submit(new Runnable() {
+                              public void run()
+                              {
+                                  loadCardImage(iCard, tk);
+                              }
+                          }));
+        }
+        else {
+            loadCardImage(iCard, tk);
+        }
+    }
+
+    /**
+     * Method used to decode an image read from the resource.  Decoded (in
+     * memory) using ImageIO, falling back to the toolkit for formats ImageIO
+     * cannot read.  Note: the toolkit does not read the '.bmp' format.
+     * @param bytes byte array containing the image resource (can be null).
+     * @param tk Toolkit used to create the image with (if ImageIO cannot).
+     * @return Image decoded, null if bytes is null.
+    */
+    protected Image decodeImage(byte[] bytes, Toolkit tk)
+    {
+        Image ret = null;
+
+        if (bytes != null) {
+            try {
+                ret = ImageIO.read(new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes)));
+            }
+            catch (IOException e) {
+                ret = null;
+            }
+            if (ret == null) ret = tk.createImage(bytes);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to read the image resource (jar file) of a card into a byte
+     * array.  The resource is read in bulk.
+     * @param iCard Int containing the card to read the image of.
+     * @return byte array containing the image resource, null if could not be read.
+    */
+    protected byte[] readImage(int iCard)
     {
-        Image img = null;
+        byte[] ret = null;
+        String ss = imgPath + iCard + imgExt;
 
         try {
-            String ss = imgPath + iCard + imgExt;
             InputStream in = this.getClass().getResourceAsStream(ss);
-            BufferedInputStream bs = new BufferedInputStream(in);
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            int r = 0;
-
-            do {
-                r = bs.read();
-                if (r != -1) {
-                    bos.write(r);
-                }
-            } while (r != -1);
-            bs.close();
 
-            img = tk.createImage(bos.toByteArray());
-            if (img != null) {
-                cardCache.put(""+iCard, img);
-            }
-            else {
-                System.out.println("Image failed to load: "+ss);
+            if (in != null) {
+                try {
+                    ret = in.readAllBytes();
+                }
+                finally {
+                    in.close();
+                }
             }
+            if (ret == null) System.out.println("Image failed to load: "+ss);
         }
         catch (Exception e) {
             e.printStackTrace();
         }
+
+        return ret;
+    }
+
+    /**
+     * Method used to save an image into the cache at the card value given
+     * (replaces the image if already loaded).  The cache is grown if needed.
+     * @param iCard Int containing the card value to cache the image at.
+     * @param img Image to cache.
+    */
+    protected void putImage(int iCard, Image img)
+    {
+        set.cardImages.put(Integer.valueOf(iCard), CompletableFuture.completedFuture(img));
+        publishImage(iCard, img);
+    }
+
+    /**
+     * Method used to create the images used for the atlas and scaled card
+     * images.  Creates an image compatible with the default screen (so it can
+     * be accelerated) unless running headless.
+     * @param iWidth Width of the image.
+     * @param iHeight Height of the image.
+     * @param iTransparency Transparency needed by the card images
+     * (Transparency.OPAQUE, BITMASK or TRANSLUCENT).
+     * @return BufferedImage to draw the image into.
+    */
+    protected BufferedImage createCacheImage(int iWidth, int iHeight, int iTransparency)
+    {
+        BufferedImage ret = null;
+
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().
+                                       getDefaultScreenDevice().getDefaultConfiguration();
+            ret = gc.createCompatibleImage(iWidth, iHeight, iTransparency);
+        }
+        else if (iTransparency == Transparency.OPAQUE) {
+            ret = new BufferedImage(iWidth, iHeight, BufferedImage.TYPE_INT_RGB);
+        }
+        else {
+            ret = new BufferedImage(iWidth, iHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to create a scaled copy of a card image.  Uses bicubic
+     * interpolation, shrinking in steps of half the size when reducing by more
+     * than half (keeps the quality of the reduced image).
+     * @param img Image to scale (loaded).
+     * @param iWidth Width of the scaled image.
+     * @param iHeight Height of the scaled image.
+     * @return BufferedImage containing the scaled image.
+    */
+    protected BufferedImage scaleImage(Image img, int iWidth, int iHeight)
+    {
+        int iTrans = (img instanceof Transparency) ? ((Transparency) img).getTransparency() : Transparency.TRANSLUCENT;
+        Image src = img;
+        int iW = img.getWidth(null);
+        int iH = img.getHeight(null);
+        BufferedImage ret = null;
+
+        do {
+            iW = (iW / 2 > iWidth) ? iW / 2 : iWidth;
+            iH = (iH / 2 > iHeight) ? iH / 2 : iHeight;
+
+            BufferedImage step = createCacheImage(iW, iH, iTrans);
+            Graphics2D g = step.createGraphics();
+
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, iW, iH, null);
+            g.dispose();
+            src = ret = step;
+        } while ((iW != iWidth) || (iH != iHeight));
+
+        return ret;
     }
 
     /**
@@ -129,18 +363,329 @@ public abstract class CardImageCache
      * Method used to load the image cache with the implemented card images.
      * Will only allow the images to be loaded once.  If the images are loaded
      * during the construction stage, this method does nothing.<br>
-     * Method will be called automatically when one of the getCardImage() methods
-     * are called, will just return if image cache is already loaded, either by
-     * the constuctor or by direct call.
+     * If the cache is not loaded, the getCardImage() methods load the images
+     * asked for as needed (one at a time).
     */
     public void loadImageCache()
     {
-        if (!bImagesLoaded) {
-            bImagesLoaded = true;
-            loopAndLoad();
+        synchronized (set.loadLock) {
+            if (!set.bImagesLoaded) {
+                loopAndLoad();
+                set.bImagesLoaded = true;
+            }
+        }
+    }
+
+    /**
+     * Method used to load the image cache with the implemented card images,
+     * reading and decoding the images in parallel on a bounded thread pool.
+     * Images loaded this way are fully decoded when the method returns (there
+     * is no need to call waitForImages()).  Will only allow the images to be
+     * loaded once, if already loaded this method does nothing.
+     * @param iNumThreads Maximum number of threads to use to load the images,
+     * limited to the number of processors available.
+    */
+    public void loadImageCache(int iNumThreads)
+    {
+        synchronized (set.loadLock) {
+            if (set.bImagesLoaded) return;
+
+            int iThreads = Math.max(1, Math.min(iNumThreads, Runtime.getRuntime().availableProcessors()));
+
+            set.loader = Executors.newFixedThreadPool(iThreads);
+            set.loads = new ArrayList();
+            try {
+                loopAndLoad();
+                for (int i = 0; i < set.loads.size(); i++) {
+                    try {
+                        ((Future) set.loads.get(i)).get();
+                    }
+                    catch (ExecutionException e) {
+                        e.getCause().printStackTrace();
+                    }
+                }
+                set.bImagesLoaded = true;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                System.err.println("CardImageCache.loadImageCache: " + e);
+            }
+            finally {
+                set.loader.shutdown();
+                set.loader = null;
+                set.loads = null;
+            }
+        }
+    }
+
+    /**
+     * Method used to pack all of the cached card images (faces, backs, symbols,
+     * jokers, etc.) into one image atlas.  Each card takes a getImageWidth() by
+     * getImageHeight() cell of the atlas.  Once built, getCardImage() returns
+     * sub-images of the atlas (the individually loaded images are released) and
+     * drawCardImage() draws directly from the atlas.  Loads the cache (and waits
+     * for the images) if needed.  Does nothing if the atlas is already built.<br>
+     * Note: the atlas is built for the shared image set (all of the caches
+     * sharing the images are put in atlas mode).
+    */
+    public void buildImageAtlas()
+    {
+        synchronized (set) {
+            if (set.atlas != null) return;
+
+            loadImageCache();
+            waitForImages(new Canvas()); // images must be complete to be packed
+
+            Image[] cc = set.cardCache;
+            int iW = getImageWidth();
+            int iH = getImageHeight();
+            int iNum = 0;
+            int iTrans = Transparency.OPAQUE;
+
+            // opaque atlas (cheaper to draw) if all of the images are opaque
+            for (int i = 0; i < cc.length; i++) {
+                if (cc[i] != null) {
+                    iNum++;
+                    if (cc[i] instanceof Transparency)
+                        iTrans = Math.max(iTrans, ((Transparency) cc[i]).getTransparency());
+                    else
+                        iTrans = Transparency.TRANSLUCENT;
+                }
+            }
+            if ((iNum == 0) || (iW <= 0) || (iH <= 0)) return;
+
+            int iCols = (int) Math.ceil(Math.sqrt(iNum));
+            int iRows = (iNum + iCols - 1) / iCols;
+            BufferedImage img = createCacheImage(iCols * iW, iRows * iH, iTrans);
+            Image[] nc = new Image[cc.length];
+            int[] slots = new int[cc.length];
+            Graphics2D g = img.createGraphics();
+            int iSlot = 0;
+
+            g.setComposite(AlphaComposite.Src);
+            for (int i = 0; i < cc.length; i++) {
+                slots[i] = -1;
+                if (cc[i] != null) {
+                    int x = (iSlot % iCols) * iW;
+                    int y = (iSlot / iCols) * iH;
+
+                    g.drawImage(cc[i], x, y, null);
+                    nc[i] = img.getSubimage(x, y, iW, iH);
+                    slots[i] = iSlot++;
+                }
+            }
+            g.dispose();
+
+            for (int i = 0; i < nc.length; i++) {
+                if (nc[i] != null) putImage(i, nc[i]);
+            }
+            set.atlasCols = iCols;
+            set.atlas = img;
+            set.atlasSlots = slots; // set last, readers get the slots first
+        }
+    }
+
+    /**
+     * Method used to determine if the cache is in atlas mode (the atlas has
+     * been built).
+     * @return True if in atlas mode, else false.
+    */
+    public boolean isAtlasMode()
+    {
+        return set.atlas != null;
+    }
+
+    /**
+     * Method used to return the image atlas.
+     * @return BufferedImage of the atlas, null if the atlas has not been built.
+    */
+    public BufferedImage getImageAtlas()
+    {
+        return set.atlas;
+    }
+
+    /**
+     * Method used to return where a card image is in the image atlas.
+     * @param ceCardValue A card value constant to get the atlas area of.
+     * @return Rectangle of the card image in the atlas, null if not in atlas
+     * mode or the card has no image.
+    */
+    public Rectangle getAtlasBounds(CardEnum ceCardValue)
+    {
+        Rectangle ret = null;
+        int iSlot = getAtlasSlot(ceCardValue.getValue());
+
+        if (iSlot >= 0) {
+            int iW = getImageWidth();
+            int iH = getImageHeight();
+            ret = new Rectangle((iSlot % set.atlasCols) * iW, (iSlot / set.atlasCols) * iH, iW, iH);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return the width of the card images.  By default the
+     * width of the widest image cached, implementations should override with
+     * their image width constant.
+     * @return Width of the card images (in pixels), -1 if not known.
+    */
+    public int getImageWidth()
+    {
+        int ret = -1;
+        Image[] cc = set.cardCache;
+
+        for (int i = 0; i < cc.length; i++) {
+            if (cc[i] != null) ret = Math.max(ret, cc[i].getWidth(null));
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return the height of the card images.  By default the
+     * height of the tallest image cached, implementations should override with
+     * their image height constant.
+     * @return Height of the card images (in pixels), -1 if not known.
+    */
+    public int getImageHeight()
+    {
+        int ret = -1;
+        Image[] cc = set.cardCache;
+
+        for (int i = 0; i < cc.length; i++) {
+            if (cc[i] != null) ret = Math.max(ret, cc[i].getHeight(null));
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return a good offset to use when laying cards on top of
+     * each other (fanned).  By default a fifth of the card image width,
+     * implementations should override with their image offset constant.
+     * @return Offset (in pixels), -1 if not known.
+    */
+    public int getImageOffset()
+    {
+        int iW = getImageWidth();
+
+        return (iW > 0) ? Math.max(1, iW / 5) : -1;
+    }
+
+    /**
+     * Method used to set the memory limit of the scaled image cache.  The
+     * least recently used scaled images are released when the limit is passed.
+     * The scaled images (and limit) are shared by the caches sharing the images.
+     * @param lBytes Memory limit (in bytes, estimated at 4 bytes a pixel),
+     * 0 to not cache scaled images.
+    */
+    public void setScaledCacheLimit(long lBytes)
+    {
+        synchronized (set.scaledCache) {
+            set.scaledLimit = Math.max(0L, lBytes);
+            trimScaledCache();
+        }
+    }
+
+    /**
+     * Method used to return the memory limit of the scaled image cache.
+     * @return Memory limit (in bytes).
+    */
+    public long getScaledCacheLimit()
+    {
+        synchronized (set.scaledCache) {
+            return set.scaledLimit;
+        }
+    }
+
+    /**
+     * Method used to return the memory used by the scaled image cache.
+     * @return Memory used (in bytes, estimated at 4 bytes a pixel).
+    */
+    public long getScaledCacheSize()
+    {
+        synchronized (set.scaledCache) {
+            return set.scaledBytes;
+        }
+    }
+
+    /**
+     * Method used to return the number of scaled images cached.
+     * @return Number of scaled images in the cache.
+    */
+    public int getScaledCacheCount()
+    {
+        synchronized (set.scaledCache) {
+            return set.scaledCache.size();
         }
     }
 
+    /**
+     * Method used to return the number of scaled image requests found in the
+     * scaled image cache.
+     * @return Scaled image cache hits.
+    */
+    public long getScaledCacheHits()
+    {
+        synchronized (set.scaledCache) {
+            return set.scaledHits;
+        }
+    }
+
+    /**
+     * Method used to return the number of scaled image requests that had to
+     * create the scaled image.
+     * @return Scaled image cache misses.
+    */
+    public long getScaledCacheMisses()
+    {
+        synchronized (set.scaledCache) {
+            return set.scaledMisses;
+        }
+    }
+
+    /** Method used to release all of the scaled images (and reset the counters). */
+    public void clearScaledCache()
+    {
+        synchronized (set.scaledCache) {
+            set.scaledCache.clear();
+            set.scaledBytes = 0L;
+            set.scaledHits = 0L;
+            set.scaledMisses = 0L;
+        }
+    }
+
+    /**
+     * Method used to release this cache's hold on the shared image set.  The
+     * images are released when no other cache is using them.  The cache should
+     * not be used after being released.  Releasing more than once does nothing.
+    */
+    public void release()
+    {
+        setRelease.clean();
+    }
+
+    /**
+     * Method used to return the number of caches sharing the images of this
+     * cache (including this cache if not released).
+     * @return Number of caches sharing the image set.
+    */
+    public int getShareCount()
+    {
+        return set.getRefCount();
+    }
+
+    /**
+     * Method used to return the number of shared image sets in use by the
+     * process.
+     * @return Number of image sets in use.
+    */
+    public static int getSharedSetCount()
+    {
+        return CardImageSet.getSetCount();
+    }
+
     /**
      * Method used to block the application and wait for the card images
      * to finish loading.  Note: if this method is not called, the images
@@ -151,11 +696,10 @@ public abstract class CardImageCache
     public void waitForImages(Component comp)
     {
         MediaTracker tracker = new MediaTracker(comp);
-        Iterator itr = cardCache.keySet().iterator();
+        Image[] cc = set.cardCache;
 
-        while (itr.hasNext()) {
-            String key = (String) itr.next();
-            tracker.addImage((Image) cardCache.get(key), 0);
+        for (int i = 0; i < cc.length; i++) {
+            if (cc[i] != null) tracker.addImage(cc[i], 0);
         }
 
         // Block and wait for all images to be loaded
@@ -179,14 +723,120 @@ public abstract class CardImageCache
 
     /**
      * Method used to return an Image to the caller of a given card
-     * enumeration value.
+     * enumeration value.  Loads the image if not loaded yet.
      * @param ceCardValue A card value constant to get the image of.
-     * @return An Image instance matching the given card value.
+     * @return An Image instance matching the given card value, null if the card
+     * has no image.
     */
     public Image getCardImage(CardEnum ceCardValue)
     {
-        if (!bImagesLoaded) loadImageCache(); // load if not preloaded already
+        int iCard = ceCardValue.getValue();
+        Image[] cc = set.cardCache;
+        Image ret = ((iCard >= 0) && (iCard < cc.length)) ? cc[iCard] : null;
+
+        if ((ret == null) && (iCard >= 0)) ret = loadCardImage(iCard, Toolkit.getDefaultToolkit());
+
+        return ret;
+    }
 
-        return (Image) cardCache.get(""+ceCardValue.getValue());
+    /**
+     * Method used to return an Image of a given card enumeration value scaled
+     * to the given size.  Scaled images are created once (high quality) and kept
+     * in a least recently used cache, bounded by the scaled cache memory limit
+     * (see setScaledCacheLimit()).  Returns the cached card image if the size
+     * is the size of the card image.
+     * @param ceCardValue A card value constant to get the image of.
+     * @param iWidth Width of the image wanted (1 - 65535).
+     * @param iHeight Height of the image wanted (1 - 65535).
+     * @return An Image instance matching the given card value, null if the card
+     * has no image or the size is not valid.
+    */
+    public Image getCardImage(CardEnum ceCardValue, int iWidth, int iHeight)
+    {
+        Image img = getCardImage(ceCardValue);
+
+        if ((img == null) || (iWidth <= 0) || (iHeight <= 0) || (iWidth > 0xFFFF) || (iHeight > 0xFFFF))
+            return null;
+        if ((img.getWidth(null) == iWidth) && (img.getHeight(null) == iHeight))
+            return img;
+
+        Long key = scaledKey(ceCardValue.getValue(), iWidth, iHeight);
+        Image ret = null;
+
+        synchronized (set.scaledCache) {
+            ret = (Image) set.scaledCache.get(key);
+            if (ret != null) set.scaledHits++; else set.scaledMisses++;
+        }
+        if ((ret == null) && (img.getWidth(null) > 0) && (img.getHeight(null) > 0)) {
+            ret = scaleImage(img, iWidth, iHeight);
+            synchronized (set.scaledCache) {
+                Image old = (Image) set.scaledCache.put(key, ret);
+                if (old != null) set.scaledBytes -= imageBytes(old);
+                set.scaledBytes += imageBytes(ret);
+                trimScaledCache();
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to return an Image of a given card scaled to the given size
+     * (see getCardImage(CardEnum, int, int)).
+     * @param c Card instance to get an image for.
+     * @param iWidth Width of the image wanted.
+     * @param iHeight Height of the image wanted.
+     * @return Image matching the card instance passed in.
+    */
+    public Image getCardImage(Card c, int iWidth, int iHeight)
+    {
+        return getCardImage((CardEnum) c.getCardValue(), iWidth, iHeight);
+    }
+
+    /**
+     * Method used to draw a card image.  In atlas mode the card is drawn as a
+     * sub-rectangle of the atlas image, otherwise the card image is drawn.
+     * @param g Graphics to draw the card with.
+     * @param ceCardValue A card value constant of the card to draw.
+     * @param x X position to draw the card at.
+     * @param y Y position to draw the card at.
+     * @param obs ImageObserver notified of image loading (if not loaded yet).
+     * @return Value returned by the Graphics.drawImage() call (false if the
+     * card has no image).
+    */
+    public boolean drawCardImage(Graphics g, CardEnum ceCardValue, int x, int y, ImageObserver obs)
+    {
+        boolean bRet = false;
+        int iSlot = getAtlasSlot(ceCardValue.getValue());
+
+        if (iSlot >= 0) {
+            int iW = getImageWidth();
+            int iH = getImageHeight();
+            int sx = (iSlot % set.atlasCols) * iW;
+            int sy = (iSlot / set.atlasCols) * iH;
+
+            bRet = g.drawImage(set.atlas, x, y, x + iW, y + iH, sx, sy, sx + iW, sy + iH, obs);
+        }
+        else {
+            Image img = getCardImage(ceCardValue);
+            if (img != null) bRet = g.drawImage(img, x, y, obs);
+        }
+
+        return bRet;
+    }
+
+    /**
+     * Method used to draw a card image (see drawCardImage(Graphics, CardEnum,
+     * int, int, ImageObserver)).
+     * @param g Graphics to draw the card with.
+     * @param c Card instance to draw.
+     * @param x X position to draw the card at.
+     * @param y Y position to draw the card at.
+     * @param obs ImageObserver notified of image loading (if not loaded yet).
+     * @return Value returned by the Graphics.drawImage() call.
+    */
+    public boolean drawCardImage(Graphics g, Card c, int x, int y, ImageObserver obs)
+    {
+        return drawCardImage(g, (CardEnum) c.getCardValue(), x, y, obs);
     }
 }
@@ -0,0 +1,137 @@
+package com.slackandassociates.cards;
+
+import java.util.*;
+import java.awt.*;
+import java.awt.image.*;
+import java.util.concurrent.*;
+
+/**
+ * Class holds one set of decoded card images (plus the atlas and scaled
+ * images made from them) shared by all of the card image caches loading the
+ * same image path and extension.  Sets are kept in a process wide registry and
+ * reference counted, a set is dropped from the registry when the last image
+ * cache holding it is released (or garbage collected).<br>
+ * Used only by the CardImageCache class, state is accessed directly by the
+ * cache. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Image map holds the image loads (futures).
+ * </ul>
+ * @see CardImageCache
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+final class CardImageSet
+{
+    // private static
+    private static final int INIT_CACHE_SIZE = 70;
+    /** Registry of the image sets in use, keyed by image path and extension. */
+    private static final HashMap IMAGE_SETS = new HashMap();
+
+    // package references (guarded as noted)
+    /** Array containing the cached images, indexed by card value (copy on write). */
+    volatile Image[] cardCache = new Image[INIT_CACHE_SIZE];
+    /** Image loads (CompletableFuture of the image) keyed by card value, the
+     * first thread to put a load in decodes the image (outside the map). */
+    final ConcurrentHashMap cardImages = new ConcurrentHashMap(INIT_CACHE_SIZE * 2);
+    /** Lock held while updating the card image array. */
+    final Object cacheLock = new Object();
+    /** Lock held while loading the image cache. */
+    final Object loadLock = new Object();
+    /** Cache loaded flag. */
+    volatile boolean bImagesLoaded = false;
+    /** Executor used to load the images in parallel (only set during load). */
+    ExecutorService loader = null;
+    /** Image loads submitted to the executor (only set during load). */
+    ArrayList loads = null;
+    /** Image atlas containing all of the card images (atlas mode only). */
+    volatile BufferedImage atlas = null;
+    /** Atlas slot of each card image, indexed by card value (-1 if none). */
+    volatile int[] atlasSlots = null;
+    /** Number of columns (card images) in each row of the atlas. */
+    volatile int atlasCols = 0;
+    /** Scaled images, keyed by card value and size (access ordered for LRU). */
+    final LinkedHashMap scaledCache = new LinkedHashMap(64, 0.75f, true);
+    /** Memory used by the scaled images (estimated, in bytes, scaledCache lock). */
+    long scaledBytes = 0L;
+    /** Memory limit of the scaled images (in bytes, scaledCache lock). */
+    long scaledLimit = CardImageCache.DEF_SCALED_CACHE_LIMIT;
+    /** Scaled image cache hit count (scaledCache lock). */
+    long scaledHits = 0L;
+    /** Scaled image cache miss count (scaledCache lock). */
+    long scaledMisses = 0L;
+
+    // private references
+    private final String key;
+    private int iRefCount = 0;
+
+    // --------------------------- Constructors -------------------------------
+
+    private CardImageSet(String sKey)
+    {
+        key = sKey;
+    }
+
+    // ------------------------- Package Methods ------------------------------
+
+    /**
+     * Method used to get the image set of an image path and extension, the set
+     * is created if not in use.  Adds a reference to the set.
+     * @param imagePath Path to the images.
+     * @param imageExt Extension of the images.
+     * @return CardImageSet shared by the image path and extension.
+    */
+    static CardImageSet acquire(String imagePath, String imageExt)
+    {
+        String sKey = imagePath + "*" + imageExt;
+
+        synchronized (IMAGE_SETS) {
+            CardImageSet ret = (CardImageSet) IMAGE_SETS.get(sKey);
+
+            if (ret == null) {
+                ret = new CardImageSet(sKey);
+                IMAGE_SETS.put(sKey, ret);
+            }
+            ret.iRefCount++;
+
+            return ret;
+        }
+    }
+
+    /**
+     * Method used to remove a reference to an image set.  The set is dropped
+     * from the registry when no longer referenced.
+     * @param set CardImageSet to release.
+    */
+    static void release(CardImageSet set)
+    {
+        synchronized (IMAGE_SETS) {
+            if ((--set.iRefCount <= 0) && (IMAGE_SETS.get(set.key) == set)) IMAGE_SETS.remove(set.key);
+        }
+    }
+
+    /**
+     * Method used to return the number of image sets in the registry.
+     * @return Number of image sets in use.
+    */
+    static int getSetCount()
+    {
+        synchronized (IMAGE_SETS) {
+            return IMAGE_SETS.size();
+        }
+    }
+
+    /**
+     * Method used to return the number of references to the set.
+     * @return Number of image caches holding the set.
+    */
+    int getRefCount()
+    {
+        synchronized (IMAGE_SETS) {
+            return iRefCount;
+        }
+    }
+}
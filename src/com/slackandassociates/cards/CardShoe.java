@@ -0,0 +1,307 @@
+package com.slackandassociates.cards;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class defines a dealing shoe built over a (multi-deck) CardDeck.  The shoe
+ * places a cut card at the penetration given (fraction of the cards dealt before
+ * reshuffling), burns cards after each shuffle and keeps the cards played in a
+ * discard rack.  Dealing past the cut card marks the shoe for a reshuffle, which
+ * is done when the next round is started (the round in progress is finished
+ * first).<br>
+ * In continuous shuffle (CSM) mode the discards are put back into the shuffling
+ * machine before every round, so each round is dealt from all of the cards not
+ * in play (no cards are burned and the cut card is not used).  Cards are picked
+ * at random from the deck as they are dealt (see CardDeck.getRandomCard()), so the
+ * deck is never reshuffled.  All of the cards dealt in a round must be discarded
+ * before the next round is started in this mode.  The random source defaults to
+ * the one of the deck's FisherYatesCardShuffler (ThreadLocalRandom if none).<br>
+ * If the shoe runs out of cards in the middle of a round (only possible with a
+ * penetration close to one) the whole deck is reshuffled and dealing goes on. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see CardDeck
+ * @see CompactCardDeck
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class CardShoe
+{
+    // public statics
+    /** Default penetration (fraction of the cards dealt before the cut card). */
+    public static final double DEF_PENETRATION = 0.75;
+    /** Default number of cards burned after each shuffle. */
+    public static final int DEF_BURN_CARDS = 1;
+
+    // private references
+    private CardDeck deck;
+    private double dPenetration;
+    private int iCutCard;
+    private int iBurnCards;
+    private boolean bContinuous;
+    private boolean bCutCardReached = false;
+    private boolean bStarted = false;
+    private Card[] discardRack;
+    private int iDiscards = 0;
+    private long lShuffles = 0L;
+    private long lRounds = 0L;
+    private RandomGenerator rand = null;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a shoe with the default penetration and burn cards.
+     * @param cd CardDeck holding the cards of the shoe.
+    */
+    public CardShoe(CardDeck cd)
+    {
+        this(cd, DEF_PENETRATION, DEF_BURN_CARDS, false);
+    }
+
+    /**
+     * Constructor to create a shoe.
+     * @param cd CardDeck holding the cards of the shoe.
+     * @param dPen Penetration, fraction (0 - 1) of the cards dealt before the
+     * cut card comes out.
+     * @param iBurn Number of cards burned after each shuffle (0 or more).
+     * @param bCSM True to deal as a continuous shuffling machine.
+    */
+    public CardShoe(CardDeck cd, double dPen, int iBurn, boolean bCSM)
+    {
+        deck = cd;
+        discardRack = new Card[cd.getCardCount()];
+        bContinuous = bCSM;
+        if (cd.getShuffler() instanceof FisherYatesCardShuffler)
+            rand = ((FisherYatesCardShuffler) cd.getShuffler()).getRandomGenerator();
+        setPenetration(dPen);
+        setBurnCards(iBurn);
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private void reshuffle(boolean bBurn)
+    {
+        // (a deck freshly shuffled by the owner and not dealt from yet is used as is)
+        if (bContinuous)
+            deck.returnCards();
+        else if (bStarted || !deck.isShuffled() || (deck.getCardsDealt() > 0))
+            deck.shuffle();
+        bStarted = true;
+        bCutCardReached = false;
+        iDiscards = 0;
+        lShuffles++;
+
+        if (bBurn) {
+            for (int i = 0; (i < iBurnCards) && deck.hasMoreCards(); i++)
+                discard(deck.getNextCard());
+        }
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to start a round.  Reshuffles the shoe if the cut card came
+     * out in the last round (or the shoe has not been shuffled yet), in CSM
+     * mode the discards are always mixed back in.
+     * @return True if the shoe was shuffled (or the discards mixed back in),
+     * else false.
+    */
+    public boolean beginRound()
+    {
+        boolean bRet = false;
+
+        if (bContinuous || bCutCardReached || !bStarted) {
+            reshuffle(!bContinuous);
+            bRet = true;
+        }
+        lRounds++;
+
+        return bRet;
+    }
+
+    /**
+     * Method used to deal the next card from the shoe.
+     * @return Card dealt.
+    */
+    public Card deal()
+    {
+        if (!bStarted || !deck.hasMoreCards()) reshuffle(false);
+
+        if (bContinuous) return deck.getRandomCard((rand == null) ? ThreadLocalRandom.current() : rand);
+
+        Card ret = deck.getNextCard();
+
+        if (deck.getCardsDealt() >= iCutCard) bCutCardReached = true;
+
+        return ret;
+    }
+
+    /**
+     * Method used to put a card played into the discard rack.
+     * @param card Card to discard.
+    */
+    public void discard(Card card)
+    {
+        if (iDiscards < discardRack.length) discardRack[iDiscards++] = card;
+    }
+
+    /**
+     * Method used to put the cards of a hand into the discard rack (the hand
+     * is not changed).
+     * @param hand CardHand holding the cards to discard.
+    */
+    public void discard(CardHand hand)
+    {
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) discard(c);
+        }
+    }
+
+    /**
+     * Method used to return the number of cards in the discard rack.
+     * @return Number of cards discarded since the last shuffle.
+    */
+    public int getDiscardCount()
+    {
+        return iDiscards;
+    }
+
+    /**
+     * Method used to return a card in the discard rack.
+     * @param idx Position of the card (0 is the first card discarded).
+     * @return Card discarded, null if the position is not in use.
+    */
+    public Card discardAt(int idx)
+    {
+        return ((idx >= 0) && (idx < iDiscards)) ? discardRack[idx] : null;
+    }
+
+    /**
+     * Method used to return if the cut card has come out (the shoe will be
+     * reshuffled before the next round).
+     * @return True if the cut card was reached, else false.
+    */
+    public boolean isCutCardReached()
+    {
+        return bCutCardReached;
+    }
+
+    /**
+     * Method used to return the number of cards left to deal before reshuffling.
+     * @return Number of cards left in the shoe.
+    */
+    public int getCardsRemaining()
+    {
+        return deck.getCardsRemaining();
+    }
+
+    /**
+     * Method used to set the penetration of the shoe.  Used from the next
+     * card dealt.
+     * @param dPen Fraction (0 - 1) of the cards dealt before the cut card.
+    */
+    public void setPenetration(double dPen)
+    {
+        dPenetration = Math.min(1.0, Math.max(0.0, dPen));
+        iCutCard = Math.max(1, (int) Math.round(deck.getCardCount() * dPenetration));
+    }
+
+    /**
+     * Method used to return the penetration of the shoe.
+     * @return Fraction of the cards dealt before the cut card.
+    */
+    public double getPenetration()
+    {
+        return dPenetration;
+    }
+
+    /**
+     * Method used to return the position of the cut card.
+     * @return Number of cards dealt (burn cards included) when the cut card
+     * comes out.
+    */
+    public int getCutCardPosition()
+    {
+        return iCutCard;
+    }
+
+    /**
+     * Method used to set the number of cards burned after each shuffle.
+     * @param iBurn Number of cards to burn (0 or more).
+    */
+    public void setBurnCards(int iBurn)
+    {
+        iBurnCards = Math.max(0, iBurn);
+    }
+
+    /**
+     * Method used to return the number of cards burned after each shuffle.
+     * @return Number of burn cards.
+    */
+    public int getBurnCards()
+    {
+        return iBurnCards;
+    }
+
+    /**
+     * Method used to return if the shoe deals as a continuous shuffling machine.
+     * @return True if in CSM mode, else false.
+    */
+    public boolean isContinuous()
+    {
+        return bContinuous;
+    }
+
+    /**
+     * Method used to set the random source used to pick the cards in CSM mode.
+     * @param rg RandomGenerator to use, null to use ThreadLocalRandom.
+    */
+    public void setRandomGenerator(RandomGenerator rg)
+    {
+        rand = rg;
+    }
+
+    /**
+     * Method used to return the number of times the shoe was shuffled.
+     * @return Number of shuffles.
+    */
+    public long getShuffleCount()
+    {
+        return lShuffles;
+    }
+
+    /**
+     * Method used to return the number of rounds started.
+     * @return Number of rounds.
+    */
+    public long getRoundCount()
+    {
+        return lRounds;
+    }
+
+    /**
+     * Method used to return the deck dealt from by the shoe.
+     * @return CardDeck of the shoe.
+    */
+    public CardDeck getDeck()
+    {
+        return deck;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "CardShoe: (cards: " + deck.getCardCount() + ", remaining: " + deck.getCardsRemaining() +
+               ", cut card: " + iCutCard + ", burn: " + iBurnCards + ", discards: " + iDiscards +
+               ", CSM: " + bContinuous + ")";
+    }
+}
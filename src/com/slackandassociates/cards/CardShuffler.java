@@ -0,0 +1,48 @@
+package com.slackandassociates.cards;
+
+import java.io.*;
+
+/**
+ * Interface defining a shuffle strategy used by the CardDeck class to shuffle
+ * the cards in the deck.  Allows for the shuffle algorithm and the random
+ * source used by the shuffle to be changed (set into the CardDeck instance).<br>
+ * The library provides a single pass Fisher-Yates implementation (the default
+ * used by the CardDeck) and the original (legacy) multi-pass shuffle. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see CardDeck
+ * @see FisherYatesCardShuffler
+ * @see LegacyCardShuffler
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public interface CardShuffler extends Serializable
+{
+    /**
+     * Method used to shuffle (in place) the first iNumCards cards of the
+     * card array passed in.
+     * @param cards CardEnum array containing the cards to shuffle.
+     * @param iNumCards Number of cards (from the start of the array) to shuffle.
+    */
+    public void shuffle(CardEnum[] cards, int iNumCards);
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in (used by decks storing cards as codes).
+     * @param codes byte array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(byte[] codes, int iNumCards);
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in (used by decks storing cards as codes).
+     * @param codes short array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(short[] codes, int iNumCards);
+}
@@ -0,0 +1,298 @@
+package com.slackandassociates.cards;
+
+import java.nio.*;
+import java.util.function.IntFunction;
+
+/**
+ * Class used to save and restore the state of card decks and card hands in a
+ * compact binary form (for game state snapshots) in place of Java serialization.
+ * Cards are written as their card values (value + 1, so an empty slot or
+ * NO_CARD is 0), one byte per card when every value fits (0 - 254), otherwise
+ * a short per card.  No class descriptors or objects are written and reading
+ * looks the card values up through the enumeration class (for example
+ * PlayingCardEnum::fromValue), so the restored values are the constants.<br>
+ * Formats (big endian):
+ * <ul>
+ * <li> Deck - tag 'D', flags byte (shuffled, short values), int number of
+ * cards, int next card position, cards in deck order.
+ * <li> Hand - tag 'H', flags byte (sorted, short values), comparison mode byte,
+ * short number of slots, cards slot for slot (empty slots are 0).
+ * </ul>
+ * Decks are restored into a deck with the same cards (the shuffler and card
+ * factory of the deck are kept), hands into an existing hand or a new one. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see CardDeck
+ * @see CardHand
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class CardStateCodec
+{
+    // public statics
+    /** Tag byte starting a saved deck. */
+    public static final byte DECK_TAG = 'D';
+    /** Tag byte starting a saved hand. */
+    public static final byte HAND_TAG = 'H';
+
+    // private statics
+    private static final int FLAG_STATE = 0x01; // shuffled deck or sorted hand
+    private static final int FLAG_SHORT = 0x02; // cards written as shorts
+    private static final int MAX_BYTE_VALUE = 254;
+    private static final int DECK_HEADER = 10;
+    private static final int HAND_HEADER = 5;
+
+    // --------------------------- Constructors -------------------------------
+
+    private CardStateCodec()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static boolean needsShorts(CardDeck deck)
+    {
+        for (int i = 0; i < deck.getCardCount(); i++) {
+            int v = deck.cardEnumAt(i).getValue();
+            if ((v < CardEnum.JC_NO_CARD_VALUE) || (v > MAX_BYTE_VALUE)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean needsShorts(CardHand hand)
+    {
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            int v = hand.cardAt(i).getCardValue().getValue();
+            if ((v < CardEnum.JC_NO_CARD_VALUE) || (v > MAX_BYTE_VALUE)) return true;
+        }
+
+        return false;
+    }
+
+    private static void putValue(ByteBuffer buf, int iValue, boolean bShort)
+    {
+        if (bShort)
+            buf.putShort((short) (iValue + 1));
+        else
+            buf.put((byte) (iValue + 1));
+    }
+
+    private static CardEnum getValue(ByteBuffer buf, boolean bShort, IntFunction lookup)
+    {
+        int iValue = (bShort ? (buf.getShort() & 0xFFFF) : (buf.get() & 0xFF)) - 1;
+
+        if (iValue == CardEnum.JC_NO_CARD_VALUE) return BlankCardEnum.NO_CARD;
+
+        CardEnum ce = (CardEnum) lookup.apply(iValue);
+
+        if (ce == null) throw new IllegalArgumentException("CardStateCodec: unknown card value " + iValue + ".");
+
+        return ce;
+    }
+
+    private static void checkTag(ByteBuffer buf, byte tag)
+    {
+        byte b = buf.get();
+
+        if (b != tag)
+            throw new IllegalArgumentException("CardStateCodec: expected tag '" + (char) tag + "', found " + b + ".");
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the number of bytes a deck is saved in.
+     * @param deck CardDeck to save.
+     * @return Number of bytes written by writeDeck().
+    */
+    public static int deckSize(CardDeck deck)
+    {
+        return DECK_HEADER + (deck.getCardCount() * (needsShorts(deck) ? 2 : 1));
+    }
+
+    /**
+     * Method used to save a deck (card order, next card position, shuffled flag).
+     * @param deck CardDeck to save.
+     * @param buf ByteBuffer to write to (deckSize() bytes from its position).
+    */
+    public static void writeDeck(CardDeck deck, ByteBuffer buf)
+    {
+        boolean bShort = needsShorts(deck);
+        int iCards = deck.getCardCount();
+
+        buf.put(DECK_TAG);
+        buf.put((byte) ((deck.isShuffled() ? FLAG_STATE : 0) | (bShort ? FLAG_SHORT : 0)));
+        buf.putInt(iCards);
+        buf.putInt(deck.getCardsDealt());
+        for (int i = 0; i < iCards; i++) putValue(buf, deck.cardEnumAt(i).getValue(), bShort);
+    }
+
+    /**
+     * Method used to restore a saved deck into a deck holding the same cards.
+     * @param buf ByteBuffer to read from (at the start of a saved deck).
+     * @param deck CardDeck to restore the cards, next card position and
+     * shuffled flag of.
+     * @param lookup Card value to CardEnum lookup (for example PlayingCardEnum::fromValue).
+     * @throws IllegalArgumentException If the data is not a saved deck, the
+     * number of cards differs or a card value is unknown.
+    */
+    public static void readDeck(ByteBuffer buf, CardDeck deck, IntFunction lookup)
+    {
+        checkTag(buf, DECK_TAG);
+
+        int iFlags = buf.get();
+        int iCards = buf.getInt();
+        int iNext = buf.getInt();
+        boolean bShort = (iFlags & FLAG_SHORT) != 0;
+
+        if (iCards != deck.getCardCount())
+            throw new IllegalArgumentException("CardStateCodec: saved deck holds " + iCards + " cards, deck holds " +
+                                               deck.getCardCount() + ".");
+        if ((iNext < 0) || (iNext > iCards))
+            throw new IllegalArgumentException("CardStateCodec: next card position " + iNext + " out of range.");
+
+        for (int i = 0; i < iCards; i++) deck.setCardEnumAt(i, getValue(buf, bShort, lookup));
+        deck.restoreState(iNext, (iFlags & FLAG_STATE) != 0);
+    }
+
+    /**
+     * Method used to return the number of bytes a hand is saved in.
+     * @param hand CardHand to save.
+     * @return Number of bytes written by writeHand().
+    */
+    public static int handSize(CardHand hand)
+    {
+        return HAND_HEADER + (hand.getMaximumCardCount() * (needsShorts(hand) ? 2 : 1));
+    }
+
+    /**
+     * Method used to save a hand (cards slot for slot, sorted flag and
+     * comparison mode).
+     * @param hand CardHand to save.
+     * @param buf ByteBuffer to write to (handSize() bytes from its position).
+    */
+    public static void writeHand(CardHand hand, ByteBuffer buf)
+    {
+        boolean bShort = needsShorts(hand);
+        int iSlots = hand.getMaximumCardCount();
+
+        buf.put(HAND_TAG);
+        buf.put((byte) ((hand.isSorted() ? FLAG_STATE : 0) | (bShort ? FLAG_SHORT : 0)));
+        buf.put((byte) hand.getCompMode());
+        buf.putShort((short) iSlots);
+        for (int i = 0; i < iSlots; i++) {
+            Card c = hand.cardAt(i);
+            putValue(buf, (c == CardHand.EMPTY_CARD) ? CardEnum.JC_NO_CARD_VALUE : c.getCardValue().getValue(), bShort);
+        }
+    }
+
+    /**
+     * Method used to restore a saved hand into an existing hand (the hand's
+     * cards are removed first).
+     * @param buf ByteBuffer to read from (at the start of a saved hand).
+     * @param hand CardHand to restore, must have the saved number of slots.
+     * @param factory CardFactory used to create the cards put in the hand.
+     * @param lookup Card value to CardEnum lookup (for example PlayingCardEnum::fromValue).
+     * @throws IllegalArgumentException If the data is not a saved hand, the
+     * number of slots differs or a card value is unknown.
+    */
+    public static void readHand(ByteBuffer buf, CardHand hand, CardFactory factory, IntFunction lookup)
+    {
+        checkTag(buf, HAND_TAG);
+
+        int iFlags = buf.get();
+        int iCompMode = buf.get();
+        int iSlots = buf.getShort() & 0xFFFF;
+        boolean bShort = (iFlags & FLAG_SHORT) != 0;
+
+        if (iSlots != hand.getMaximumCardCount())
+            throw new IllegalArgumentException("CardStateCodec: saved hand has " + iSlots + " slots, hand has " +
+                                               hand.getMaximumCardCount() + ".");
+
+        hand.removeAll();
+        hand.setCompMode(iCompMode);
+        for (int i = 0; i < iSlots; i++) {
+            CardEnum ce = getValue(buf, bShort, lookup);
+            if (ce != BlankCardEnum.NO_CARD) hand.restoreSlot(factory.createCard(ce), i);
+        }
+    }
+
+    /**
+     * Method used to restore a saved hand into a new CardHand.
+     * @param buf ByteBuffer to read from (at the start of a saved hand).
+     * @param factory CardFactory used to create the cards put in the hand.
+     * @param lookup Card value to CardEnum lookup (for example PlayingCardEnum::fromValue).
+     * @return CardHand restored.
+     * @throws IllegalArgumentException If the data is not a saved hand or a
+     * card value is unknown.
+    */
+    public static CardHand readHand(ByteBuffer buf, CardFactory factory, IntFunction lookup)
+    {
+        int iStart = buf.position();
+        CardHand hand;
+
+        checkTag(buf, HAND_TAG);
+        hand = new CardHand(buf.getShort(iStart + 3) & 0xFFFF, (buf.get() & FLAG_STATE) != 0);
+        buf.position(iStart);
+        readHand(buf, hand, factory, lookup);
+
+        return hand;
+    }
+
+    /**
+     * Method used to save a deck to a byte array.
+     * @param deck CardDeck to save.
+     * @return Byte array holding the saved deck.
+    */
+    public static byte[] encode(CardDeck deck)
+    {
+        byte[] ret = new byte[deckSize(deck)];
+
+        writeDeck(deck, ByteBuffer.wrap(ret));
+
+        return ret;
+    }
+
+    /**
+     * Method used to save a hand to a byte array.
+     * @param hand CardHand to save.
+     * @return Byte array holding the saved hand.
+    */
+    public static byte[] encode(CardHand hand)
+    {
+        byte[] ret = new byte[handSize(hand)];
+
+        writeHand(hand, ByteBuffer.wrap(ret));
+
+        return ret;
+    }
+
+    /**
+     * Method used to restore a deck saved to a byte array.
+     * @param data Byte array holding the saved deck.
+     * @param deck CardDeck to restore (holding the same cards).
+     * @param lookup Card value to CardEnum lookup.
+    */
+    public static void decode(byte[] data, CardDeck deck, IntFunction lookup)
+    {
+        readDeck(ByteBuffer.wrap(data), deck, lookup);
+    }
+
+    /**
+     * Method used to restore a hand saved to a byte array.
+     * @param data Byte array holding the saved hand.
+     * @param hand CardHand to restore (same number of slots).
+     * @param factory CardFactory used to create the cards put in the hand.
+     * @param lookup Card value to CardEnum lookup.
+    */
+    public static void decode(byte[] data, CardHand hand, CardFactory factory, IntFunction lookup)
+    {
+        readHand(ByteBuffer.wrap(data), hand, factory, lookup);
+    }
+}
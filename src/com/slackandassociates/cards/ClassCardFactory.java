@@ -0,0 +1,101 @@
+package com.slackandassociates.cards;
+
+import java.lang.invoke.*;
+
+/**
+ * Card factory that creates cards of a given card implementation class using
+ * the implementation's CardEnum constructor.  The constructor is looked up once
+ * (as a method handle), no reflection is done per card created.  Used by the
+ * CardDeck when a card implementation class is passed in. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release (moved from CardDeck.createNewCard()).
+ * </ul>
+ * @see CardFactory
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class ClassCardFactory implements CardFactory
+{
+    static final long serialVersionUID = 2292263431620155042L;
+
+    // private references
+    private Class cardCls;
+    private transient MethodHandle cardCons = null;
+
+    // ------------------- Constructors ----------------------------------------
+
+    /**
+     * Constructor to create a card factory for a card implementation.
+     * @param cardImpl Class instance of the card implementation that will be
+     * created by the factory.  Must have a public constructor taking a CardEnum.
+    */
+    public ClassCardFactory(Class cardImpl)
+    {
+        cardCls = cardImpl;
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private MethodHandle getConstructor() throws NoSuchMethodException, IllegalAccessException
+    {
+        if (cardCons == null) {
+            MethodHandle mh = MethodHandles.publicLookup()
+                                  .findConstructor(cardCls, MethodType.methodType(void.class, CardEnum.class));
+            cardCons = mh.asType(MethodType.methodType(Card.class, CardEnum.class));
+        }
+
+        return cardCons;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the card implementation class created by the factory.
+     * @return Class of the card implementation.
+    */
+    public Class getCardClass()
+    {
+        return cardCls;
+    }
+
+    /**
+     * Method used to create a card with the given card value.  If the card
+     * cannot be created, a BlankCard is returned (and error reported).
+     * @param ce CardEnum value of the card to create.
+     * @return Card instance with the card value given.
+    */
+    public Card createCard(CardEnum ce)
+    {
+        try {
+            return (Card) getConstructor().invokeExact(ce);
+        }
+        catch (NoSuchMethodException nsme) {
+            System.err.println("CardDeck: not a valid card class (missing constructor(CardEnum)).  " + nsme);
+            return new BlankCard();
+        }
+        catch (IllegalAccessException iae) {
+            System.err.println("CardDeck: do not have permission to create new card.  " + iae);
+            return new BlankCard();
+        }
+        catch (ClassCastException cce) {
+            System.err.println("CardDeck: not a valid card class (not a Card).  " + cce);
+            return new BlankCard();
+        }
+        catch (Throwable t) {
+            System.err.println("CardDeck: could not create new card.  " + t);
+            return new BlankCard();
+        }
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "ClassCardFactory: (" + ((cardCls == null) ? "null" : cardCls.getName()) + ")";
+    }
+}
@@ -0,0 +1,315 @@
+package com.slackandassociates.cards;
+
+import java.util.*;
+
+/**
+ * Card deck that stores the cards in the deck as byte (or short) codes instead
+ * of CardEnum references.  The codes index a table of the distinct card values
+ * used by the deck, the table is shared by the compact decks created from the
+ * same deck definition arrays (held weakly, a deserialized deck has its own
+ * table).  Cards are only created (by the card factory) when taken from the
+ * deck. <br>
+ * Has the same API as the CardDeck, but supports any number of decks (eight deck
+ * shoes, etc.).  Decks with up to 256 distinct card values are stored using one
+ * byte per card, otherwise two bytes (short) per card are used. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Added swapCards() (random card draws).
+ * <li> 2026-10-17 - Added setCardEnumAt() (restoring saved decks).
+ * <li> 2026-10-17 - Deck definition passed to CardDeck (used by reset()).
+ * <li> 2026-10-17 - Card value tables shared per deck definition (weakly held)
+ * instead of a global table keyed by the card values.
+ * </ul>
+ * @see CardDeck
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.04 2026-10-17
+*/
+public class CompactCardDeck extends CardDeck
+{
+    static final long serialVersionUID = -7106394873540236571L;
+
+    // private static
+    /** Maximum number of distinct card values stored as byte codes. */
+    private static final int MAX_BYTE_CODES = 256;
+    /** Maximum number of distinct card values stored as short codes. */
+    private static final int MAX_SHORT_CODES = 65536;
+    /** Shared card value tables, keyed by the deck definition array then the
+     * extra cards array (arrays hash and compare by identity, keys weakly held). */
+    private static final WeakHashMap valueTables = new WeakHashMap();
+
+    // private references
+    private CardEnum[] cardValues;
+    private byte[] bCodes = null;
+    private short[] sCodes = null;
+    private transient IdentityHashMap codeMap = null;
+
+    // ------------------- Constructors ----------------------------------------
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck, but does not shuffle.  Will setup card deck with one deck of
+     * cards initialized by the passed in deck array.
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param cardImpl Class instance of the card implementation that will
+     * be used to create cards retrieved from the card deck instance.
+    */
+    public CompactCardDeck(CardEnum[] deck, Class cardImpl)
+    {
+        this(JC_ONE_DECK, deck, new ClassCardFactory(cardImpl), null);
+    }
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  If an invalid number of decks is
+     * specified (less than 1), 1 deck is used.
+     * @param iNumDecks Number of decks (1 or more).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param cardImpl Class instance of the card implementation that will
+     * be used to create cards retrieved from the card deck instance.
+    */
+    public CompactCardDeck(int iNumDecks, CardEnum[] deck, Class cardImpl)
+    {
+        this(iNumDecks, deck, new ClassCardFactory(cardImpl), null);
+    }
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  If an invalid number of decks is
+     * specified (less than 1), 1 deck is used.
+     * @param iNumDecks Number of decks (1 or more).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param cardImpl Class instance of the card implementation that will
+     * be used to create cards retrieved from the card deck instance.
+     * @param extraCards CardEnum array containing extra cards to add to the
+     * card deck after the deck is initialized.  Will only be added to the deck
+     * once.  Parameter can be null (no additional cards).
+    */
+    public CompactCardDeck(int iNumDecks, CardEnum[] deck, Class cardImpl, CardEnum[] extraCards)
+    {
+        this(iNumDecks, deck, new ClassCardFactory(cardImpl), extraCards);
+    }
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck, but does not shuffle.  Will setup card deck with one deck of
+     * cards initialized by the passed in deck array.
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    public CompactCardDeck(CardEnum[] deck, CardFactory factory)
+    {
+        this(JC_ONE_DECK, deck, factory, null);
+    }
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  If an invalid number of decks is
+     * specified (less than 1), 1 deck is used.
+     * @param iNumDecks Number of decks (1 or more).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+    */
+    public CompactCardDeck(int iNumDecks, CardEnum[] deck, CardFactory factory)
+    {
+        this(iNumDecks, deck, factory, null);
+    }
+
+    /**
+     * Constructor to create a compact card deck.  Initializes the cards in
+     * the deck(s), but does not shuffle.  If an invalid number of decks is
+     * specified (less than 1), 1 deck is used.
+     * @param iNumDecks Number of decks (1 or more).
+     * @param deck CardEnum array containing the set of cards that will be
+     * used by the card deck instance.
+     * @param factory CardFactory used to create cards retrieved from the
+     * card deck instance.
+     * @param extraCards CardEnum array containing extra cards to add to the
+     * card deck after the deck is initialized.  Will only be added to the deck
+     * once.  Parameter can be null (no additional cards).
+     * @throws IllegalArgumentException if the deck contains more than 65536
+     * distinct card values.
+    */
+    public CompactCardDeck(int iNumDecks, CardEnum[] deck, CardFactory factory, CardEnum[] extraCards)
+    {
+        super(Math.max(iNumDecks, JC_ONE_DECK), deck, extraCards, factory);
+
+        int iDecks = Math.max(iNumDecks, JC_ONE_DECK);
+        int iCards = (deck.length * iDecks) + ((extraCards == null) ? 0 : extraCards.length);
+        IdentityHashMap codeMap = new IdentityHashMap();
+        ArrayList values = new ArrayList();
+        int[] deckCodes = new int[deck.length];
+        int ii = 0;
+
+        // assign a code to each distinct card value (in order first seen)
+        for (int j = 0; j < deck.length; j++)
+            deckCodes[j] = codeFor(deck[j], codeMap, values);
+        int[] extraCodes = new int[(extraCards == null) ? 0 : extraCards.length];
+        for (int j = 0; j < extraCodes.length; j++)
+            extraCodes[j] = codeFor(extraCards[j], codeMap, values);
+
+        if (values.size() > MAX_SHORT_CODES)
+            throw new IllegalArgumentException("CompactCardDeck: too many distinct card values (" +
+                                               values.size() + ").");
+
+        cardValues = sharedValueTable(deck, extraCards, values);
+
+        if (values.size() <= MAX_BYTE_CODES) {
+            bCodes = new byte[iCards];
+            for (int i = 0; i < iDecks; i++)
+                for (int j = 0; j < deckCodes.length; j++)
+                    bCodes[ii++] = (byte) deckCodes[j];
+            for (int j = 0; j < extraCodes.length; j++)
+                bCodes[ii++] = (byte) extraCodes[j];
+        }
+        else {
+            sCodes = new short[iCards];
+            for (int i = 0; i < iDecks; i++)
+                for (int j = 0; j < deckCodes.length; j++)
+                    sCodes[ii++] = (short) deckCodes[j];
+            for (int j = 0; j < extraCodes.length; j++)
+                sCodes[ii++] = (short) extraCodes[j];
+        }
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static int codeFor(CardEnum ce, IdentityHashMap codeMap, ArrayList values)
+    {
+        Integer code = (Integer) codeMap.get(ce);
+
+        if (code == null) {
+            code = Integer.valueOf(values.size());
+            codeMap.put(ce, code);
+            values.add(ce);
+        }
+
+        return code.intValue();
+    }
+
+    private static CardEnum[] sharedValueTable(CardEnum[] deck, CardEnum[] extraCards, ArrayList values)
+    {
+        synchronized (valueTables) {
+            WeakHashMap tables = (WeakHashMap) valueTables.get(deck);
+
+            if (tables == null) {
+                tables = new WeakHashMap(4);
+                valueTables.put(deck, tables);
+            }
+
+            CardEnum[] table = (CardEnum[]) tables.get(extraCards);
+
+            // same definition arrays, the values only differ if an array was changed
+            if ((table == null) || !Arrays.asList(table).equals(values)) {
+                table = (CardEnum[]) values.toArray(new CardEnum[values.size()]);
+                tables.put(extraCards, table);
+            }
+
+            return table;
+        }
+    }
+
+    // --------------------------- Protected Methods --------------------------
+
+    /**
+     * Method used to store a card value at a position in the deck as its code.
+     * @param idx Position (zero based) of the card in the deck.
+     * @param ce CardEnum value to store.
+     * @throws IllegalArgumentException If the card value is not in the deck's
+     * card value table.
+    */
+    protected void setCardEnumAt(int idx, CardEnum ce)
+    {
+        if (codeMap == null) {
+            IdentityHashMap map = new IdentityHashMap();
+            for (int i = 0; i < cardValues.length; i++) map.put(cardValues[i], Integer.valueOf(i));
+            codeMap = map;
+        }
+
+        Integer code = (Integer) codeMap.get(ce);
+
+        if (code == null)
+            throw new IllegalArgumentException("CompactCardDeck: card value " + ce + " not in the deck.");
+
+        if (bCodes != null)
+            bCodes[idx] = (byte) code.intValue();
+        else
+            sCodes[idx] = (short) code.intValue();
+    }
+
+    /**
+     * Method used to return the card value stored at a position in the deck.
+     * @param idx Position (zero based) of the card in the deck.
+     * @return CardEnum value of the card at the position.
+    */
+    protected CardEnum cardEnumAt(int idx)
+    {
+        return cardValues[getCardCodeAt(idx)];
+    }
+
+    /**
+     * Method used to swap the card codes stored at two positions in the deck.
+     * @param i Position (zero based) of the first card.
+     * @param j Position (zero based) of the second card.
+    */
+    protected void swapCards(int i, int j)
+    {
+        if (bCodes != null) {
+            byte b = bCodes[i];
+            bCodes[i] = bCodes[j];
+            bCodes[j] = b;
+        }
+        else {
+            short c = sCodes[i];
+            sCodes[i] = sCodes[j];
+            sCodes[j] = c;
+        }
+    }
+
+    /**
+     * Method used to shuffle the stored card codes of the deck using the
+     * given shuffler.
+     * @param cs CardShuffler used to shuffle the cards.
+     * @param iNumCards Number of cards in the deck.
+    */
+    protected void shuffleCards(CardShuffler cs, int iNumCards)
+    {
+        if (bCodes != null)
+            cs.shuffle(bCodes, iNumCards);
+        else
+            cs.shuffle(sCodes, iNumCards);
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the card code stored at a position in the deck.
+     * The code is the index of the card value in the card value table (see
+     * getCardValues()).
+     * @param idx Position (zero based) of the card in the deck.
+     * @return Code of the card at the position.
+    */
+    public int getCardCodeAt(int idx)
+    {
+        return (bCodes != null) ? (bCodes[idx] & 0xFF) : (sCodes[idx] & 0xFFFF);
+    }
+
+    /**
+     * Method used to return a copy of the card value table used by the deck
+     * (card codes are indexes into this table).
+     * @return CardEnum array of the distinct card values in the deck.
+    */
+    public CardEnum[] getCardValues()
+    {
+        return cardValues.clone();
+    }
+}
@@ -0,0 +1,165 @@
+package com.slackandassociates.cards;
+
+/**
+ * Card hand that keeps count of the cards held by card value, suit and rank
+ * (point value) as cards are added and removed, so "how many of a card do I
+ * hold" is a constant time lookup.  Meant for hands that can hold more than one
+ * of the same card (pinochle, multi-deck games).  Can be used anywhere a CardHand
+ * is used. <br>
+ * Suit and rank counts are kept using the card's getCardSuit() and
+ * getCardPointValue() values (cards returning an invalid (negative) suit or
+ * point value are not counted for that aggregate).  Counts are kept using the
+ * CardHand cardAdded/cardRemoved hooks. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see CardHand
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class CountedCardHand extends CardHand
+{
+    static final long serialVersionUID = 8431170745622896618L;
+
+    // private static
+    private static final int INIT_VALUE_COUNTS = 64;
+    private static final int INIT_AGGR_COUNTS = 16;
+
+    // private references (count arrays are created when first needed)
+    private short[] valueCounts;
+    private short[] suitCounts;
+    private short[] rankCounts;
+
+    // -------------------------- Constructors ----------------------------
+
+    /** Constructor creates a counted hand with the default number of cards
+     * for the hand.  The hand is stored in sorted order.
+    */
+    public CountedCardHand()
+    {
+        this(CH_DEF_NUM_CARDS);
+    }
+
+    /** Constructor creates a counted hand with the given number of cards in
+     * it.  The hand is stored in sorted order.
+     * @param iNumCards An int representing the maximum size (number of cards)
+     * the hand can have.  Must be 1 or greater.
+    */
+    public CountedCardHand(int iNumCards)
+    {
+        this(iNumCards, true);
+    }
+
+    /** Constructor creates a counted hand with the given number of cards and
+     * will set the stored sort order to the given state.
+     * @param iNumCards An int representing the maximum size (number of cards)
+     * the hand can have.  Must be 1 or greater.
+     * @param bSorted A boolean, if true, that sets the hand to be sorted.  If
+     * false, the hand is stored unsorted.
+    */
+    public CountedCardHand(int iNumCards, boolean bSorted)
+    {
+        super(iNumCards, bSorted);
+    }
+
+    // ------------------------- Private Methods ----------------------------
+
+    private static short[] countUp(short[] counts, int idx, int iInitSize)
+    {
+        if (counts == null) counts = new short[Math.max(iInitSize, idx + 1)];
+        if (idx >= counts.length) {
+            short[] nc = new short[Math.max(counts.length * 2, idx + 1)];
+            System.arraycopy(counts, 0, nc, 0, counts.length);
+            counts = nc;
+        }
+        counts[idx]++;
+
+        return counts;
+    }
+
+    private static int countOf(short[] counts, int idx)
+    {
+        return ((counts == null) || (idx < 0) || (idx >= counts.length)) ? 0 : counts[idx];
+    }
+
+    // ------------------------ Protected Methods ---------------------------
+
+    /** Method called when a card is put in the hand, counts the card.
+     * @param card Card put in the hand.
+    */
+    protected void cardAdded(Card card)
+    {
+        int iV = card.getCardValue().getValue();
+        int iS = card.getCardSuit();
+        int iR = card.getCardPointValue();
+
+        if (iV >= 0) valueCounts = countUp(valueCounts, iV, INIT_VALUE_COUNTS);
+        if (iS >= 0) suitCounts = countUp(suitCounts, iS, INIT_AGGR_COUNTS);
+        if (iR >= 0) rankCounts = countUp(rankCounts, iR, INIT_AGGR_COUNTS);
+    }
+
+    /** Method called when a card is taken out of the hand, uncounts the card.
+     * @param card Card taken out of the hand.
+    */
+    protected void cardRemoved(Card card)
+    {
+        int iV = card.getCardValue().getValue();
+        int iS = card.getCardSuit();
+        int iR = card.getCardPointValue();
+
+        if (countOf(valueCounts, iV) > 0) valueCounts[iV]--;
+        if (countOf(suitCounts, iS) > 0) suitCounts[iS]--;
+        if (countOf(rankCounts, iR) > 0) rankCounts[iR]--;
+    }
+
+    // -------------------------- Public Methods ----------------------------
+
+    /** Method returns the number of cards held with the given card value.
+     * @param ce CardEnum of the card value to count.
+     * @return Number of cards held with the card value.
+    */
+    public int getCount(CardEnum ce)
+    {
+        return countOf(valueCounts, ce.getValue());
+    }
+
+    /** Method returns the number of cards held with the same card value as
+     * the card given.
+     * @param card Card to count.
+     * @return Number of cards held with the card value.
+    */
+    public int getCount(Card card)
+    {
+        return getCount(card.getCardValue());
+    }
+
+    /** Method returns if the hand holds a card with the given card value.
+     * @param ce CardEnum of the card value to look for.
+     * @return True if the hand holds a card with the card value.
+    */
+    public boolean containsValue(CardEnum ce)
+    {
+        return getCount(ce) > 0;
+    }
+
+    /** Method returns the number of cards held in a suit.
+     * @param iSuit Suit (as returned by Card.getCardSuit()) to count.
+     * @return Number of cards held in the suit.
+    */
+    public int getSuitCount(int iSuit)
+    {
+        return countOf(suitCounts, iSuit);
+    }
+
+    /** Method returns the number of cards held with a rank (point value).
+     * @param iRank Rank (as returned by Card.getCardPointValue()) to count.
+     * @return Number of cards held with the rank.
+    */
+    public int getRankCount(int iRank)
+    {
+        return countOf(rankCounts, iRank);
+    }
+}
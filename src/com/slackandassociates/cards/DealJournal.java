@@ -0,0 +1,399 @@
+package com.slackandassociates.cards;
+
+import java.io.*;
+import java.lang.invoke.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Class used to keep an append only audit journal of deck shuffles and deals
+ * (for all tables of a game server) in memory mapped segment files.  Records
+ * are fixed width and written straight into the mapped segment (no system call
+ * per record), a new segment file is started when a record does not fit in the
+ * current one.  Records:
+ * <ul>
+ * <li> Shuffle - table id, sequence number, seed, time and the card order of
+ * the deck (card value + 1 as a byte, or a short if a value does not fit).
+ * Written after a shuffle (or any time as a snapshot of a deck's order).
+ * <li> Deal - table id, sequence number, time, deal cursor (cards dealt), the
+ * value of the last card dealt and the position it was drawn from if it was a
+ * random draw (CardDeck.getRandomCard()).
+ * </ul>
+ * Record layout (big endian, records padded to 8 bytes): type byte, flags
+ * byte, short card count, int table id, long sequence, long seed (deal - int
+ * cursor, int last card value), long time millis, int draw position (-1 if
+ * none), int CRC32C checksum, card values.  The checksum covers the record
+ * (type byte, bytes 1 - 35 and the card values).  Segments start with a 16
+ * byte header (magic, segment number, first sequence) and end at the first
+ * zero type byte or bad checksum.  The first word of a record (type, flags,
+ * card count) is written last with a release store, so a reader in the same
+ * process reading it with an acquire load sees the whole record, and the
+ * checksum catches a record only partly saved by a crash (the writer clears
+ * it when the journal is opened again).<br>
+ * Use a DealJournalReader to replay the journal and rebuild the deck of any
+ * table as of any record.  Decks dealt using random card draws (continuous
+ * shuffling) replay correctly when a deal record is written after each random
+ * draw (returnCards() may be called between draws). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Deal records hold the random draw position, records have a
+ * checksum and are published with a release store.
+ * </ul>
+ * @see DealJournalReader
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class DealJournal
+    implements Closeable
+{
+    // public statics
+    /** Default segment file size (64MB). */
+    public static final long DEF_SEGMENT_SIZE = 64L * 1024L * 1024L;
+    /** Segment file name extension. */
+    public static final String FILE_EXT = ".dj";
+    /** Record type - shuffle (card order). */
+    public static final int REC_SHUFFLE = 1;
+    /** Record type - deal (cursor). */
+    public static final int REC_DEAL = 2;
+
+    // package statics (shared with the reader)
+    static final int MAGIC = 0x43444A31; // 'CDJ1'
+    static final int REC_END = 0;
+    static final int SEGMENT_HEADER = 16;
+    static final int RECORD_HEADER = 40;
+    static final int FLAG_SHORT = 0x01;
+    static final int MAX_BYTE_VALUE = 254;
+    static final int CRC_OFFSET = 36;
+    static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    // private references
+    private final File dir;
+    private final String sName;
+    private final long lSegmentSize;
+    private MappedByteBuffer seg = null;
+    private int iSegment = 0;
+    private int iPos = 0;
+    private long lSequence = 0L;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to open a journal with the default segment size.
+     * @param journalDir Directory holding the segment files.
+     * @param name Journal name (segment files are name-nnnnnn.dj).
+     * @throws IOException If a segment file can not be opened or mapped.
+    */
+    public DealJournal(File journalDir, String name) throws IOException
+    {
+        this(journalDir, name, DEF_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor to open a journal.  If segment files of the journal exist,
+     * records are appended after the last record of the last segment.
+     * @param journalDir Directory holding the segment files.
+     * @param name Journal name (segment files are name-nnnnnn.dj).
+     * @param lSegSize Size of a segment file (4KB - 2GB).
+     * @throws IOException If a segment file can not be opened or mapped.
+     * @throws IllegalArgumentException If the segment size is out of range.
+    */
+    public DealJournal(File journalDir, String name, long lSegSize) throws IOException
+    {
+        if ((lSegSize < 4096L) || (lSegSize > Integer.MAX_VALUE))
+            throw new IllegalArgumentException("DealJournal: segment size must be 4KB - 2GB.");
+
+        dir = journalDir;
+        sName = name;
+        lSegmentSize = lSegSize;
+        dir.mkdirs();
+
+        // continue the last segment (if any)
+        while (segmentFile(dir, sName, iSegment + 1).exists()) iSegment++;
+        if (segmentFile(dir, sName, iSegment).exists())
+            openLastSegment();
+        else
+            newSegment(0);
+    }
+
+    // ------------------------- Package Methods ------------------------------
+
+    /**
+     * Method used to return the file of a journal segment.
+     * @param dir Directory holding the segment files.
+     * @param name Journal name.
+     * @param iSeg Segment number.
+     * @return File of the segment.
+    */
+    static File segmentFile(File dir, String name, int iSeg)
+    {
+        return new File(dir, name + "-" + String.format("%06d", iSeg) + FILE_EXT);
+    }
+
+    /**
+     * Method used to map a segment file.
+     * @param f Segment file.
+     * @param lSize Size to map (0 maps the file's size).
+     * @param bWrite True to map read/write (the file is sized to lSize).
+     * @return MappedByteBuffer of the segment.
+     * @throws IOException If the file can not be mapped.
+    */
+    static MappedByteBuffer mapSegment(File f, long lSize, boolean bWrite) throws IOException
+    {
+        try (RandomAccessFile raf = new RandomAccessFile(f, bWrite ? "rw" : "r")) {
+            if (bWrite && (raf.length() < lSize)) raf.setLength(lSize);
+
+            long lMap = (lSize > 0L) ? lSize : raf.length();
+
+            return raf.getChannel().map(bWrite ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                                        0L, lMap);
+        }
+    }
+
+    /**
+     * Method used to return the checksum of a record (the type is passed in,
+     * the type byte in the buffer may not be written yet).
+     * @param buf Segment buffer.
+     * @param iAt Position of the record.
+     * @param iType Record type.
+     * @param iSize Size of the record in bytes.
+     * @return CRC32C of the record.
+    */
+    static int checksum(ByteBuffer buf, int iAt, int iType, int iSize)
+    {
+        CRC32C crc = new CRC32C();
+
+        crc.update(iType);
+        crc.update(buf.slice(iAt + 1, CRC_OFFSET - 1));
+        if (iSize > RECORD_HEADER) crc.update(buf.slice(iAt + RECORD_HEADER, iSize - RECORD_HEADER));
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Method used to return the size of the complete record at a position
+     * (first word read with an acquire load, checksum checked).
+     * @param buf Segment buffer.
+     * @param iAt Position of the record.
+     * @return Size of the record in bytes, 0 if there is no complete record
+     * at the position (end of the records written).
+    */
+    static int validRecordSize(ByteBuffer buf, int iAt)
+    {
+        if (iAt + RECORD_HEADER > buf.capacity()) return 0;
+
+        int iWord = (int) INT_VIEW.getAcquire(buf, iAt);
+        int iType = iWord >>> 24;
+
+        if ((iType != REC_SHUFFLE) && (iType != REC_DEAL)) return 0;
+
+        int iSize = (iType == REC_SHUFFLE) ? shuffleSize(iWord & 0xFFFF, ((iWord >>> 16) & FLAG_SHORT) != 0) : RECORD_HEADER;
+
+        if ((iAt + iSize > buf.capacity()) || (buf.getInt(iAt + CRC_OFFSET) != checksum(buf, iAt, iType, iSize))) return 0;
+
+        return iSize;
+    }
+
+    /**
+     * Method used to return the size of a shuffle record.
+     * @param iCards Number of cards in the deck.
+     * @param bShort True if the card values are written as shorts.
+     * @return Record size in bytes (multiple of 8).
+    */
+    static int shuffleSize(int iCards, boolean bShort)
+    {
+        return (RECORD_HEADER + (iCards * (bShort ? 2 : 1)) + 7) & ~7;
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private void newSegment(int iSeg) throws IOException
+    {
+        iSegment = iSeg;
+        seg = mapSegment(segmentFile(dir, sName, iSegment), lSegmentSize, true);
+        seg.putInt(4, iSegment);
+        seg.putLong(8, lSequence);
+        INT_VIEW.setRelease(seg, 0, MAGIC);
+        iPos = SEGMENT_HEADER;
+    }
+
+    private void openLastSegment() throws IOException
+    {
+        File f = segmentFile(dir, sName, iSegment);
+
+        seg = mapSegment(f, Math.max(f.length(), lSegmentSize), true);
+        if (seg.getInt(0) == 0) {
+            // segment created but never started (crash), start it again
+            int iSeg = iSegment;
+            if (iSeg > 0) {
+                iSegment--;
+                openLastSegment(); // sequence number to continue from
+            }
+            newSegment(iSeg);
+            return;
+        }
+        if (seg.getInt(0) != MAGIC) throw new IOException("DealJournal: " + f + " is not a journal segment.");
+
+        lSequence = seg.getLong(8);
+        iPos = SEGMENT_HEADER;
+
+        int iSize;
+        while ((iSize = validRecordSize(seg, iPos)) > 0) {
+            lSequence = seg.getLong(iPos + 8) + 1L;
+            iPos += iSize;
+        }
+
+        // clear a record only partly saved (crash) and anything after it
+        if ((iPos < seg.capacity()) && (seg.get(iPos) != REC_END)) {
+            for (int i = iPos; i < seg.capacity(); i++) seg.put(i, (byte) 0);
+            seg.force();
+        }
+    }
+
+    private int reserve(int iSize)
+    {
+        if (iSize > lSegmentSize - SEGMENT_HEADER)
+            throw new IllegalArgumentException("DealJournal: record of " + iSize + " bytes does not fit in a segment.");
+
+        if (iPos + iSize > seg.capacity()) {
+            try {
+                seg.force();
+                newSegment(iSegment + 1);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException("DealJournal: segment rollover failed.", e);
+            }
+        }
+
+        int iRet = iPos;
+        iPos += iSize;
+
+        return iRet;
+    }
+
+    private void putHeader(int iAt, int iFlags, int iCards, int iTableId)
+    {
+        seg.put(iAt + 1, (byte) iFlags);
+        seg.putShort(iAt + 2, (short) iCards);
+        seg.putInt(iAt + 4, iTableId);
+        seg.putLong(iAt + 8, lSequence);
+        seg.putLong(iAt + 24, System.currentTimeMillis());
+    }
+
+    private void publish(int iAt, int iType, int iFlags, int iCards, int iSize)
+    {
+        seg.putInt(iAt + CRC_OFFSET, checksum(seg, iAt, iType, iSize));
+        INT_VIEW.setRelease(seg, iAt, (iType << 24) | ((iFlags & 0xFF) << 16) | (iCards & 0xFFFF));
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to write a shuffle record (the current card order of a deck).
+     * @param iTableId Id of the table the deck is used at.
+     * @param lSeed Seed the deck was shuffled with (0 if not known).
+     * @param deck CardDeck to record the card order of (up to 65535 cards).
+     * @return Sequence number of the record.
+     * @throws IllegalStateException If the journal is closed.
+     * @throws UncheckedIOException If a new segment can not be created.
+    */
+    public synchronized long logShuffle(int iTableId, long lSeed, CardDeck deck)
+    {
+        if (seg == null) throw new IllegalStateException("DealJournal: journal is closed.");
+
+        int iCards = deck.getCardCount();
+        boolean bShort = false;
+
+        for (int i = 0; (i < iCards) && !bShort; i++) {
+            int v = deck.cardEnumAt(i).getValue();
+            bShort = (v < CardEnum.JC_NO_CARD_VALUE) || (v > MAX_BYTE_VALUE);
+        }
+
+        int iSize = shuffleSize(iCards, bShort);
+        int iAt = reserve(iSize);
+        int p = iAt + RECORD_HEADER;
+
+        putHeader(iAt, bShort ? FLAG_SHORT : 0, iCards, iTableId);
+        seg.putLong(iAt + 16, lSeed);
+        seg.putInt(iAt + 32, -1);
+        for (int i = 0; i < iCards; i++) {
+            int v = deck.cardEnumAt(i).getValue() + 1;
+            if (bShort) {
+                seg.putShort(p, (short) v);
+                p += 2;
+            }
+            else {
+                seg.put(p++, (byte) v);
+            }
+        }
+        publish(iAt, REC_SHUFFLE, bShort ? FLAG_SHORT : 0, iCards, iSize);
+
+        return lSequence++;
+    }
+
+    /**
+     * Method used to write a deal record (the deal cursor of a deck after
+     * cards are dealt).  For decks dealt by random draws write a record after
+     * each draw, the position the card was drawn from is recorded.
+     * @param iTableId Id of the table the deck is used at.
+     * @param deck CardDeck the cards were dealt from.
+     * @return Sequence number of the record.
+     * @throws IllegalStateException If the journal is closed.
+     * @throws UncheckedIOException If a new segment can not be created.
+    */
+    public synchronized long logDeal(int iTableId, CardDeck deck)
+    {
+        if (seg == null) throw new IllegalStateException("DealJournal: journal is closed.");
+
+        int iCursor = deck.getCardsDealt();
+        int iAt = reserve(RECORD_HEADER);
+
+        putHeader(iAt, 0, deck.getCardCount(), iTableId);
+        seg.putInt(iAt + 16, iCursor);
+        seg.putInt(iAt + 20, (iCursor > 0) ? deck.cardEnumAt(iCursor - 1).getValue() : CardEnum.JC_NO_CARD_VALUE);
+        seg.putInt(iAt + 32, (iCursor > 0) ? deck.getDrawnFrom() : -1);
+        publish(iAt, REC_DEAL, 0, deck.getCardCount(), RECORD_HEADER);
+
+        return lSequence++;
+    }
+
+    /**
+     * Method used to return the sequence number the next record will get.
+     * @return Next sequence number (number of records written to the journal).
+    */
+    public synchronized long getNextSequence()
+    {
+        return lSequence;
+    }
+
+    /**
+     * Method used to return the segment number being written.
+     * @return Current segment number.
+    */
+    public synchronized int getSegment()
+    {
+        return iSegment;
+    }
+
+    /**
+     * Method used to force the records written to disk (the operating system
+     * writes the mapped pages in the background otherwise).
+    */
+    public synchronized void flush()
+    {
+        if (seg != null) seg.force();
+    }
+
+    /**
+     * Method used to flush and close the journal.  The segment file keeps its
+     * full size (the unused part reads as the end of the journal).
+    */
+    public synchronized void close()
+    {
+        flush();
+        seg = null;
+    }
+}
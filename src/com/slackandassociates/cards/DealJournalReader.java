@@ -0,0 +1,318 @@
+package com.slackandassociates.cards;
+
+import java.io.*;
+import java.nio.*;
+import java.util.function.IntFunction;
+
+/**
+ * Class used to read (replay) a deal journal written by a DealJournal.  The
+ * segment files are memory mapped read only and the records are walked in
+ * order with next(), the fields of the current record returned by the getXxx
+ * methods.  restoreDeck() rebuilds the deck of a table as of any record (card
+ * order from the table's last shuffle record, deal cursor from its deal records
+ * after it, random draws swapped back into place) without replaying any game
+ * logic.  A journal still being written can be read, records appended after
+ * the reader reaches the end are seen by a later next() call (a segment the
+ * writer has not finished starting is read as the end of the journal). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Random draws replayed at the recorded draw position, records
+ * checked against their checksum, unstarted segments read as the end.
+ * </ul>
+ * @see DealJournal
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class DealJournalReader
+    implements Closeable
+{
+    // private references
+    private final File dir;
+    private final String sName;
+    private ByteBuffer seg = null;
+    private int iSegment = -1;
+    private int iPos = 0;     // position of the current record
+    private int iNextPos = 0; // position of the next record
+    private boolean bOnRecord = false;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to open a journal for reading.
+     * @param journalDir Directory holding the segment files.
+     * @param name Journal name (segment files are name-nnnnnn.dj).
+     * @throws IOException If the first segment can not be opened or is not a
+     * journal segment.
+    */
+    public DealJournalReader(File journalDir, String name) throws IOException
+    {
+        dir = journalDir;
+        sName = name;
+        if (!openSegment(0)) throw new FileNotFoundException("DealJournalReader: no segments of " + name + " in " + dir + ".");
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private boolean openSegment(int iSeg) throws IOException
+    {
+        File f = DealJournal.segmentFile(dir, sName, iSeg);
+
+        if (!f.exists()) return false;
+
+        ByteBuffer buf = DealJournal.mapSegment(f, 0L, false);
+
+        // the writer creates the file, sizes it and writes the magic last
+        if (buf.capacity() < DealJournal.SEGMENT_HEADER) return false;
+
+        int iMagic = (int) DealJournal.INT_VIEW.getAcquire(buf, 0);
+
+        if (iMagic == 0) return false;
+        if (iMagic != DealJournal.MAGIC)
+            throw new IOException("DealJournalReader: " + f + " is not a journal segment.");
+
+        seg = buf;
+        iSegment = iSeg;
+        iPos = iNextPos = DealJournal.SEGMENT_HEADER;
+        bOnRecord = false;
+
+        return true;
+    }
+
+    private void checkRecord()
+    {
+        if (!bOnRecord) throw new IllegalStateException("DealJournalReader: not on a record.");
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to move to the next record of the journal (the first record
+     * after opening or rewind()).
+     * @return True if on a record, false if at the end of the journal.
+     * @throws UncheckedIOException If the next segment can not be mapped.
+    */
+    public boolean next()
+    {
+        if (seg == null) throw new IllegalStateException("DealJournalReader: reader is closed.");
+
+        while (true) {
+            int iSize = DealJournal.validRecordSize(seg, iNextPos);
+
+            if (iSize > 0) {
+                iPos = iNextPos;
+                iNextPos += iSize;
+                bOnRecord = true;
+                return true;
+            }
+
+            // end of segment, go on to the next one if it was started
+            try {
+                if (!openSegment(iSegment + 1)) {
+                    bOnRecord = false;
+                    return false;
+                }
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException("DealJournalReader: can not open segment " + (iSegment + 1) + ".", e);
+            }
+        }
+    }
+
+    /**
+     * Method used to go back to the start of the journal.
+     * @throws IOException If the first segment can not be mapped.
+    */
+    public void rewind() throws IOException
+    {
+        if ((iSegment != 0) || (seg == null)) {
+            if (!openSegment(0)) throw new FileNotFoundException("DealJournalReader: first segment of " + sName + " not found.");
+        }
+        else {
+            iPos = iNextPos = DealJournal.SEGMENT_HEADER;
+            bOnRecord = false;
+        }
+    }
+
+    /**
+     * Method used to return the type of the current record.
+     * @return DealJournal.REC_SHUFFLE or DealJournal.REC_DEAL.
+    */
+    public int getRecordType()
+    {
+        checkRecord();
+        return seg.get(iPos);
+    }
+
+    /**
+     * Method used to return the table id of the current record.
+     * @return Table id.
+    */
+    public int getTableId()
+    {
+        checkRecord();
+        return seg.getInt(iPos + 4);
+    }
+
+    /**
+     * Method used to return the sequence number of the current record.
+     * @return Sequence number (position of the record in the journal).
+    */
+    public long getSequence()
+    {
+        checkRecord();
+        return seg.getLong(iPos + 8);
+    }
+
+    /**
+     * Method used to return the time the current record was written.
+     * @return Time in milliseconds (System.currentTimeMillis()).
+    */
+    public long getTimestamp()
+    {
+        checkRecord();
+        return seg.getLong(iPos + 24);
+    }
+
+    /**
+     * Method used to return the number of cards in the deck of the current record.
+     * @return Number of cards in the deck.
+    */
+    public int getCardCount()
+    {
+        checkRecord();
+        return seg.getShort(iPos + 2) & 0xFFFF;
+    }
+
+    /**
+     * Method used to return the seed of the current (shuffle) record.
+     * @return Seed, 0 for a deal record.
+    */
+    public long getSeed()
+    {
+        checkRecord();
+        return (seg.get(iPos) == DealJournal.REC_SHUFFLE) ? seg.getLong(iPos + 16) : 0L;
+    }
+
+    /**
+     * Method used to return the deal cursor of the current (deal) record.
+     * @return Number of cards dealt from the deck, 0 for a shuffle record.
+    */
+    public int getCursor()
+    {
+        checkRecord();
+        return (seg.get(iPos) == DealJournal.REC_DEAL) ? seg.getInt(iPos + 16) : 0;
+    }
+
+    /**
+     * Method used to return the value of the last card dealt of the current
+     * (deal) record.
+     * @return Card value, CardEnum.JC_NO_CARD_VALUE if none or a shuffle record.
+    */
+    public int getLastCardValue()
+    {
+        checkRecord();
+        return (seg.get(iPos) == DealJournal.REC_DEAL) ? seg.getInt(iPos + 20) : CardEnum.JC_NO_CARD_VALUE;
+    }
+
+    /**
+     * Method used to return the position the last card of the current (deal)
+     * record was drawn from, if it was dealt by a random draw (it was swapped
+     * with the card at getCursor() - 1).
+     * @return Draw position, -1 if not a random draw or a shuffle record.
+    */
+    public int getDrawPosition()
+    {
+        checkRecord();
+        return seg.getInt(iPos + 32);
+    }
+
+    /**
+     * Method used to return a card value of the current (shuffle) record.
+     * @param idx Position of the card in the deck order.
+     * @return Card value.
+     * @throws IllegalStateException If not on a shuffle record.
+    */
+    public int getCardValue(int idx)
+    {
+        checkRecord();
+        if (seg.get(iPos) != DealJournal.REC_SHUFFLE)
+            throw new IllegalStateException("DealJournalReader: not on a shuffle record.");
+        if ((idx < 0) || (idx >= getCardCount()))
+            throw new IndexOutOfBoundsException("DealJournalReader: card " + idx + " out of range.");
+
+        int p = iPos + DealJournal.RECORD_HEADER;
+
+        return ((seg.get(iPos + 1) & DealJournal.FLAG_SHORT) != 0) ?
+               (seg.getShort(p + (idx * 2)) & 0xFFFF) - 1 : (seg.get(p + idx) & 0xFF) - 1;
+    }
+
+    /**
+     * Method used to rebuild the deck of a table as of a record (after the
+     * record with the sequence number was written).  The journal is read from
+     * the start, the reader is left on the record following it.
+     * @param iTableId Id of the table.
+     * @param lSequence Sequence number of the last record applied.
+     * @param deck CardDeck to restore (holding the same number of cards).
+     * @param lookup Card value to CardEnum lookup (for example PlayingCardEnum::fromValue).
+     * @return True if restored, false if the table has no shuffle record up
+     * to the sequence number (deck not changed).
+     * @throws IOException If a segment can not be mapped.
+     * @throws IllegalArgumentException If the deck holds a different number
+     * of cards or a card value is unknown.
+    */
+    public boolean restoreDeck(int iTableId, long lSequence, CardDeck deck, IntFunction lookup) throws IOException
+    {
+        int[] order = null;
+        int iCursor = 0;
+
+        rewind();
+        while (next() && (getSequence() <= lSequence)) {
+            if (getTableId() != iTableId) continue;
+
+            if (getRecordType() == DealJournal.REC_SHUFFLE) {
+                int iCards = getCardCount();
+                if ((order == null) || (order.length != iCards)) order = new int[iCards];
+                for (int i = 0; i < iCards; i++) order[i] = getCardValue(i);
+                iCursor = 0;
+            }
+            else if (order != null) {
+                int iNew = getCursor();
+                int iDrawn = getDrawPosition();
+
+                // a card drawn at random was swapped to the cursor, do the same
+                if ((iDrawn >= 0) && (iNew > 0) && (iNew <= order.length) && (iDrawn < order.length)) {
+                    int c = order[iDrawn];
+                    order[iDrawn] = order[iNew - 1];
+                    order[iNew - 1] = c;
+                }
+                iCursor = iNew;
+            }
+        }
+
+        if (order == null) return false;
+        if (order.length != deck.getCardCount())
+            throw new IllegalArgumentException("DealJournalReader: table deck holds " + order.length + " cards, deck holds " +
+                                               deck.getCardCount() + ".");
+
+        for (int i = 0; i < order.length; i++) {
+            CardEnum ce = (CardEnum) lookup.apply(order[i]);
+            if (ce == null) throw new IllegalArgumentException("DealJournalReader: unknown card value " + order[i] + ".");
+            deck.setCardEnumAt(i, ce);
+        }
+        deck.restoreState(Math.min(iCursor, order.length), true);
+
+        return true;
+    }
+
+    /**
+     * Method used to close the reader (drops the segment mapping).
+    */
+    public void close()
+    {
+        seg = null;
+        bOnRecord = false;
+    }
+}
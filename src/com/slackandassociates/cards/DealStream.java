@@ -0,0 +1,133 @@
+package com.slackandassociates.cards;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Class defining a reproducible stream of deals (shuffles) from a seed, where
+ * any deal of the stream can be made directly, on any thread, without making
+ * the deals before it (tournament deal sets such as duplicate bridge boards can
+ * be made in parallel, and any deal replayed bit for bit).<br>
+ * Deal n of a stream with seed S is shuffled by a SplitMix64Random seeded with
+ * the n'th (zero based) SplitMix64 output of S, mix64(S + (n + 1) * GAMMA), so
+ * getting to deal n is a constant time jump.  The shuffle is the single pass
+ * Fisher-Yates shuffle of the FisherYatesCardShuffler: for i from the last card
+ * position down to 1, swap the card at i with the card at nextInt(i + 1).<br>
+ * Independent streams (tables, tournament sessions) are made from a master
+ * seed and a stream number with forStream(), stream s of master M has the seed
+ * mix64(M ^ mix64(s + GAMMA)).<br>
+ * Instances are immutable and thread safe. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Decks are reset to their starting order before a deal.
+ * <li> 2026-10-17 - forStream() applies the outer mix64 the class documents.
+ * </ul>
+ * @see SplitMix64Random
+ * @see CardDeck#shuffle(long)
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.02 2026-10-17
+*/
+public class DealStream
+{
+    // private references
+    private final long lSeed;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a deal stream.
+     * @param lStreamSeed Seed of the stream.
+    */
+    public DealStream(long lStreamSeed)
+    {
+        lSeed = lStreamSeed;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to create one of the independent streams of a master seed,
+     * the stream seed is mix64(master ^ mix64(stream + GAMMA)).
+     * @param lMasterSeed Master seed (tournament, server, etc.).
+     * @param lStream Stream number (table, session, etc.).
+     * @return DealStream of the stream.
+    */
+    public static DealStream forStream(long lMasterSeed, long lStream)
+    {
+        return new DealStream(SplitMix64Random.mix64(lMasterSeed ^ SplitMix64Random.mix64(lStream + SplitMix64Random.GAMMA)));
+    }
+
+    /**
+     * Method used to return the seed of the stream.
+     * @return Stream seed.
+    */
+    public long getSeed()
+    {
+        return lSeed;
+    }
+
+    /**
+     * Method used to return the shuffle seed of a deal of the stream.
+     * @param lDeal Deal number (zero based).
+     * @return Seed of the SplitMix64Random shuffling the deal.
+    */
+    public long getDealSeed(long lDeal)
+    {
+        return SplitMix64Random.mix64(lSeed + ((lDeal + 1L) * SplitMix64Random.GAMMA));
+    }
+
+    /**
+     * Method used to return a new random generator shuffling a deal of the stream.
+     * @param lDeal Deal number (zero based).
+     * @return SplitMix64Random seeded for the deal.
+    */
+    public SplitMix64Random getDealRandom(long lDeal)
+    {
+        return new SplitMix64Random(getDealSeed(lDeal));
+    }
+
+    /**
+     * Method used to shuffle a deck into a deal of the stream.  The deck is
+     * put back in its starting order first (CardDeck.reset()), so the deal is
+     * the same whatever the deck was used for before.
+     * @param deck CardDeck to shuffle.
+     * @param lDeal Deal number (zero based).
+     * @throws IllegalStateException If the deck definition is not known.
+    */
+    public void shuffle(CardDeck deck, long lDeal)
+    {
+        deck.shuffle(getDealSeed(lDeal));
+    }
+
+    /**
+     * Method used to fill an array with the card order of a deal (a
+     * permutation of the starting card positions 0 - length - 1), the same
+     * order shuffle() puts a deck of that many cards in.
+     * @param lDeal Deal number (zero based).
+     * @param order Array to fill, its length is the number of cards.
+    */
+    public void dealOrder(long lDeal, int[] order)
+    {
+        RandomGenerator rg = getDealRandom(lDeal);
+
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        for (int i = order.length - 1; i > 0; i--) {
+            int p = rg.nextInt(i + 1);
+            int c = order[i];
+            order[i] = order[p];
+            order[p] = c;
+        }
+    }
+
+    /**
+     * Method used to return the class instance as a string value (the seed is
+     * not shown, use getSeed() where it is safe to record it).
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "DealStream";
+    }
+}
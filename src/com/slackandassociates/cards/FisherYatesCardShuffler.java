@@ -0,0 +1,134 @@
+package com.slackandassociates.cards;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Card shuffler implementing a single pass (unbiased) Fisher-Yates shuffle.
+ * This is the default shuffler used by the CardDeck class.<br>
+ * The random source can be any RandomGenerator (SplittableRandom, SecureRandom,
+ * one of the RandomGeneratorFactory algorithms, etc.).  If no random source is
+ * given, ThreadLocalRandom is used (no contention between threads shuffling
+ * different decks).  Note: a given random source is used as is, so if the source
+ * is not thread safe (SplittableRandom, etc.), the shuffler should not be shared
+ * between decks being shuffled on different threads.<br>
+ * The draws are made in a fixed order (for i from iNumCards - 1 down to 1, swap
+ * position i with position nextInt(i + 1)), do not change it - seeded shuffles
+ * must give the same card order in every release. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Documented the order of the random draws, seeded shuffles
+ * (CardDeck.shuffle(long), DealStream) depend on it staying the same.
+ * </ul>
+ * @see CardShuffler
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class FisherYatesCardShuffler implements CardShuffler
+{
+    static final long serialVersionUID = -4409571658217683372L;
+
+    // private references
+    /** Random source, null to use ThreadLocalRandom (not serialized). */
+    private transient RandomGenerator rand = null;
+
+    // ------------------- Constructors ----------------------------------------
+
+    /**
+     * Constructor to create a shuffler using the ThreadLocalRandom random source.
+    */
+    public FisherYatesCardShuffler()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructor to create a shuffler using the given random source.
+     * @param rg RandomGenerator used to shuffle the cards with.  If null,
+     * ThreadLocalRandom is used.
+    */
+    public FisherYatesCardShuffler(RandomGenerator rg)
+    {
+        rand = rg;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the random source used by the shuffler.
+     * @return RandomGenerator set into the shuffler, null if using the
+     * ThreadLocalRandom random source.
+    */
+    public RandomGenerator getRandomGenerator()
+    {
+        return rand;
+    }
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards cards of the
+     * card array passed in.  Each card position is swapped once.
+     * @param cards CardEnum array containing the cards to shuffle.
+     * @param iNumCards Number of cards (from the start of the array) to shuffle.
+    */
+    public void shuffle(CardEnum[] cards, int iNumCards)
+    {
+        RandomGenerator rg = (rand == null) ? ThreadLocalRandom.current() : rand;
+
+        for (int i = iNumCards - 1; i > 0; i--) {
+            int p = rg.nextInt(i + 1);
+            // swap card at i with card at p
+            CardEnum c = cards[i];
+            cards[i] = cards[p];
+            cards[p] = c;
+        }
+    }
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in.  Each code position is swapped once.
+     * @param codes byte array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(byte[] codes, int iNumCards)
+    {
+        RandomGenerator rg = (rand == null) ? ThreadLocalRandom.current() : rand;
+
+        for (int i = iNumCards - 1; i > 0; i--) {
+            int p = rg.nextInt(i + 1);
+            byte c = codes[i];
+            codes[i] = codes[p];
+            codes[p] = c;
+        }
+    }
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in.  Each code position is swapped once.
+     * @param codes short array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(short[] codes, int iNumCards)
+    {
+        RandomGenerator rg = (rand == null) ? ThreadLocalRandom.current() : rand;
+
+        for (int i = iNumCards - 1; i > 0; i--) {
+            int p = rg.nextInt(i + 1);
+            short c = codes[i];
+            codes[i] = codes[p];
+            codes[p] = c;
+        }
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "FisherYatesCardShuffler: (" +
+               ((rand == null) ? "ThreadLocalRandom" : rand.getClass().getName()) + ")";
+    }
+}
@@ -0,0 +1,194 @@
+package com.slackandassociates.cards;
+
+import java.io.*;
+
+/**
+ * Read-only card handed out by a FlyweightCardFactory, shared by everyone
+ * using the factory.  Wraps a card (created by the factory and never handed
+ * out) set to one comparison mode, the card value and comparison mode can not
+ * be changed.  A card in another comparison mode is the factory's shared card
+ * for that mode (see withCompMode(), used by CardHand for sorted hands). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see FlyweightCardFactory
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+final class FlyweightCard implements Card
+{
+    static final long serialVersionUID = 4711938251066352370L;
+
+    // private references
+    private final Card card;
+    private final FlyweightCardFactory factory;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a shared card.
+     * @param c Card wrapped (must not be handed out or changed after).
+     * @param f FlyweightCardFactory the card belongs to.
+    */
+    FlyweightCard(Card c, FlyweightCardFactory f)
+    {
+        card = c;
+        factory = f;
+    }
+
+    // ------------------------- Package Methods ------------------------------
+
+    /**
+     * Method used to return the factory's shared card with the same card value
+     * in a comparison mode.
+     * @param iCompModeFlag int flag specifying one of the Card.JC_COMP_xxx constants.
+     * @return Shared card in the comparison mode (this card if already in it).
+    */
+    Card withCompMode(int iCompModeFlag)
+    {
+        if (iCompModeFlag == card.getCompMode()) return this;
+
+        return factory.createCard(card.getCardValue(), iCompModeFlag);
+    }
+
+    // ------------------------ Serialization Methods --------------------------
+
+    /**
+     * Method used to replace a deserialized card with the factory's shared card.
+     * @return Shared card with the same card value and comparison mode.
+     * @throws ObjectStreamException Never.
+    */
+    private Object readResolve() throws ObjectStreamException
+    {
+        return factory.createCard(card.getCardValue(), card.getCompMode());
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the value of the card.
+     * @return CardEnum of the card.
+    */
+    public CardEnum getCardValue()
+    {
+        return card.getCardValue();
+    }
+
+    /**
+     * Method not supported, shared cards can not be changed.
+     * @param ceCV CardEnum value (not used).
+     * @throws UnsupportedOperationException Always.
+    */
+    public void setCardValue(CardEnum ceCV) throws CardInvalidEnumException
+    {
+        throw new UnsupportedOperationException("FlyweightCard: shared card value can not be changed.");
+    }
+
+    /**
+     * Method used to return the color of the card.
+     * @return An int representing the color of the card value.
+    */
+    public int getCardColor()
+    {
+        return card.getCardColor();
+    }
+
+    /**
+     * Method used to return the suit of the card.
+     * @return An int representing the suit of the card value.
+    */
+    public int getCardSuit()
+    {
+        return card.getCardSuit();
+    }
+
+    /**
+     * Method used to return the point value of the card.
+     * @return An int representing the point value of the card.
+    */
+    public int getCardPointValue()
+    {
+        return card.getCardPointValue();
+    }
+
+    /**
+     * Method used to return the point value of the card (face cards are 10).
+     * @return An int representing the point value of the card.
+    */
+    public int getCardPointValueFace10()
+    {
+        return card.getCardPointValueFace10();
+    }
+
+    /**
+     * Method used to return the name of the card.
+     * @return String containing the name of the card.
+    */
+    public String getCardName()
+    {
+        return card.getCardName();
+    }
+
+    /**
+     * Method used to return the comparison mode of the card.
+     * @return A Card.JC_COMP_xxx constant of the comparison mode.
+    */
+    public int getCompMode()
+    {
+        return card.getCompMode();
+    }
+
+    /**
+     * Method used to set the comparison mode, only the card's own mode is
+     * accepted (use the factory's card for another mode).
+     * @param iCompModeFlag int flag specifying one of the Card.JC_COMP_xxx constants.
+     * @throws UnsupportedOperationException If the mode differs from the card's.
+    */
+    public void setCompMode(int iCompModeFlag)
+    {
+        if (iCompModeFlag != card.getCompMode())
+            throw new UnsupportedOperationException("FlyweightCard: shared card comparison mode can not be changed.");
+    }
+
+    /**
+     * Method used to compare the card to another card (using the card's
+     * comparison mode).
+     * @param o Object to compare to.
+     * @return A 0 if equal, -1 if less than, 1 if greater than.
+    */
+    public int compareTo(Object o)
+    {
+        return card.compareTo(o);
+    }
+
+    /**
+     * Method used to return the hashcode of the card.
+     * @return An int containing the hashcode of the card.
+    */
+    public int hashCode()
+    {
+        return card.hashCode();
+    }
+
+    /**
+     * Method used to determine if the card is equivalent to another.
+     * @param obj Object to compare to.
+     * @return True if equivalent, otherwise false.
+    */
+    public boolean equals(Object obj)
+    {
+        return card.equals(obj);
+    }
+
+    /**
+     * Method used to return the card as a string value (the card's name).
+     * @return A String value representing the card.
+    */
+    public String toString()
+    {
+        return card.toString();
+    }
+}
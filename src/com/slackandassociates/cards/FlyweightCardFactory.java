@@ -0,0 +1,152 @@
+package com.slackandassociates.cards;
+
+/**
+ * Card factory that hands out one canonical card instance per card value, so
+ * dealing cards from a CardDeck using this factory does not create any new
+ * cards (after the first card of each value is created).  The canonical cards
+ * are created by the card factory passed in.<br>
+ * The cards returned are shared by everyone using the factory (across threads)
+ * and are read-only, setCardValue() and setCompMode() (to another mode) throw
+ * UnsupportedOperationException.  One shared card is kept per card value and
+ * comparison mode, a sorted CardHand holds the shared card for its comparison
+ * mode (so hands with different modes do not change each other's cards).
+ * Card values without a value (negative) are not shared, a new card is
+ * created each time. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Shared cards are read-only (FlyweightCard), one per card value
+ * and comparison mode.
+ * </ul>
+ * @see CardFactory
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class FlyweightCardFactory implements CardFactory
+{
+    static final long serialVersionUID = -1833902706187552871L;
+
+    // private static
+    private static final int INIT_CACHE_SIZE = 64;
+    private static final int NUM_MODES = Card.JC_COMP_NOFACE + 1;
+
+    // private references
+    private CardFactory factory;
+    /** Canonical cards indexed by comparison mode and card value (rows replaced, never changed). */
+    private transient volatile Card[][] cache = null;
+
+    // ------------------- Constructors ----------------------------------------
+
+    /**
+     * Constructor to create a flyweight factory using a card implementation class
+     * to create the canonical cards.
+     * @param cardImpl Class instance of the card implementation.
+    */
+    public FlyweightCardFactory(Class cardImpl)
+    {
+        this(new ClassCardFactory(cardImpl));
+    }
+
+    /**
+     * Constructor to create a flyweight factory using another card factory to
+     * create the canonical cards.
+     * @param cf CardFactory used to create the canonical card instances.
+    */
+    public FlyweightCardFactory(CardFactory cf)
+    {
+        factory = cf;
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private synchronized Card createCanonicalCard(CardEnum ce, int iMode)
+    {
+        int iV = ce.getValue();
+        Card[][] cc = cache;
+
+        if ((cc != null) && (iV < cc[iMode].length) && (cc[iMode][iV] != null))
+            return cc[iMode][iV]; // created while waiting
+
+        Card[][] nc = new Card[NUM_MODES][];
+        for (int m = 0; m < NUM_MODES; m++) nc[m] = (cc == null) ? new Card[INIT_CACHE_SIZE] : cc[m];
+
+        int iLen = nc[iMode].length;
+        while (iLen <= iV) iLen *= 2;
+
+        Card[] row = new Card[iLen];
+        System.arraycopy(nc[iMode], 0, row, 0, nc[iMode].length);
+
+        Card c = factory.createCard(ce);
+        if (iMode != Card.JC_COMP_DEFAULT) c.setCompMode(iMode);
+        row[iV] = new FlyweightCard(c, this);
+        nc[iMode] = row;
+        cache = nc; // publish
+
+        return row[iV];
+    }
+
+    // --------------------------- Package Methods ----------------------------
+
+    /**
+     * Method used to return the shared card for a card value in a comparison
+     * mode (modes other than the Card.JC_COMP_xxx constants get the default
+     * mode card).
+     * @param ce CardEnum value of the card to get.
+     * @param iCompMode Card.JC_COMP_xxx comparison mode of the card.
+     * @return Card (shared) instance with the card value given.
+    */
+    Card createCard(CardEnum ce, int iCompMode)
+    {
+        int iV = ce.getValue();
+        int iMode = ((iCompMode >= 0) && (iCompMode < NUM_MODES)) ? iCompMode : Card.JC_COMP_DEFAULT;
+
+        if (iV < 0) {
+            Card c = factory.createCard(ce);
+            c.setCompMode(iMode);
+            return c;
+        }
+
+        Card[][] cc = cache;
+        if ((cc != null) && (iV < cc[iMode].length)) {
+            Card c = cc[iMode][iV];
+            if (c != null) return c;
+        }
+
+        return createCanonicalCard(ce, iMode);
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the canonical (read-only) card for the given card
+     * value, in the default comparison mode.  Card values without a card value
+     * (negative) are not cached.
+     * @param ce CardEnum value of the card to get.
+     * @return Card (shared) instance with the card value given.
+    */
+    public Card createCard(CardEnum ce)
+    {
+        int iV = ce.getValue();
+
+        if (iV < 0) return factory.createCard(ce);
+
+        Card[][] cc = cache;
+        if ((cc != null) && (iV < cc[Card.JC_COMP_DEFAULT].length)) {
+            Card c = cc[Card.JC_COMP_DEFAULT][iV];
+            if (c != null) return c;
+        }
+
+        return createCanonicalCard(ce, Card.JC_COMP_DEFAULT);
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "FlyweightCardFactory: (" + factory + ")";
+    }
+}
@@ -0,0 +1,90 @@
+package com.slackandassociates.cards;
+
+/**
+ * Card shuffler implementing the original CardDeck shuffle (ten passes over
+ * the deck swapping each card with a card at any position, using Math.random()).
+ * Kept for compatibility with programs relying on the original shuffle, the
+ * FisherYatesCardShuffler should be used otherwise (the original shuffle is
+ * slower and is not uniform). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release (moved from CardDeck.shuffle()).
+ * </ul>
+ * @see CardShuffler
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class LegacyCardShuffler implements CardShuffler
+{
+    static final long serialVersionUID = 6170539812230478802L;
+
+    /** Number of passes made over the cards. */
+    private static final int PASSES = 10;
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards cards of the
+     * card array passed in.
+     * @param cards CardEnum array containing the cards to shuffle.
+     * @param iNumCards Number of cards (from the start of the array) to shuffle.
+    */
+    public void shuffle(CardEnum[] cards, int iNumCards)
+    {
+        // psuedo shuffle
+        for (int i = 0; i < PASSES; i++) {
+            for (int j = 0; j < iNumCards; j++) {
+                int p = (int) Math.floor(Math.random() * iNumCards);
+                // swap card at j with card at p
+                CardEnum c = cards[j];
+                cards[j] = cards[p];
+                cards[p] = c;
+            }
+        }
+    }
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in.
+     * @param codes byte array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(byte[] codes, int iNumCards)
+    {
+        for (int i = 0; i < PASSES; i++) {
+            for (int j = 0; j < iNumCards; j++) {
+                int p = (int) Math.floor(Math.random() * iNumCards);
+                byte c = codes[j];
+                codes[j] = codes[p];
+                codes[p] = c;
+            }
+        }
+    }
+
+    /**
+     * Method used to shuffle (in place) the first iNumCards card codes of the
+     * code array passed in.
+     * @param codes short array containing the card codes to shuffle.
+     * @param iNumCards Number of codes (from the start of the array) to shuffle.
+    */
+    public void shuffle(short[] codes, int iNumCards)
+    {
+        for (int i = 0; i < PASSES; i++) {
+            for (int j = 0; j < iNumCards; j++) {
+                int p = (int) Math.floor(Math.random() * iNumCards);
+                short c = codes[j];
+                codes[j] = codes[p];
+                codes[p] = c;
+            }
+        }
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "LegacyCardShuffler";
+    }
+}
@@ -0,0 +1,154 @@
+package com.slackandassociates.cards;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random generator implementing the SplitMix64 algorithm (Steele, Lea and
+ * Flood), used for seeded, reproducible shuffles.  The algorithm is fixed here
+ * (it does not depend on the JDK's generator implementations), so a seed gives
+ * the same numbers on every platform and Java version:
+ * <ul>
+ * <li> nextLong() - state = state + 0x9E3779B97F4A7C15, returns mix64(state).
+ * <li> mix64(z) - z = (z ^ (z &gt;&gt;&gt; 30)) * 0xBF58476D1CE4E5B9,
+ * z = (z ^ (z &gt;&gt;&gt; 27)) * 0x94D049BB133111EB, returns z ^ (z &gt;&gt;&gt; 31).
+ * <li> nextInt() - upper 32 bits of nextLong().
+ * <li> nextInt(bound) - Lemire's multiply and shift of the upper 32 bits of
+ * nextLong() by the bound, drawing again while the low 32 bits of the product
+ * are below 2^32 mod bound (unbiased).
+ * </ul>
+ * The state only moves by a constant each step, so the generator can jump
+ * ahead any number of steps in constant time (see jump()). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see DealStream
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class SplitMix64Random implements RandomGenerator
+{
+    // public statics
+    /** Amount the state moves each step (odd, the golden ratio in 64 bits). */
+    public static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    // private references
+    private long state;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a generator.
+     * @param lSeed Seed (starting state).
+    */
+    public SplitMix64Random(long lSeed)
+    {
+        state = lSeed;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to mix a 64 bit value (the SplitMix64 output function).
+     * @param z Value to mix.
+     * @return Mixed value.
+    */
+    public static long mix64(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Method used to reset the generator to a seed (reusing the instance).
+     * @param lSeed Seed (starting state).
+    */
+    public void setSeed(long lSeed)
+    {
+        state = lSeed;
+    }
+
+    /**
+     * Method used to move the generator ahead (or back, if negative) a number
+     * of steps without generating the numbers.
+     * @param lSteps Number of nextLong() steps to skip.
+    */
+    public void jump(long lSteps)
+    {
+        state += lSteps * GAMMA;
+    }
+
+    /**
+     * Method used to return the next 64 random bits.
+     * @return Random long.
+    */
+    public long nextLong()
+    {
+        state += GAMMA;
+
+        return mix64(state);
+    }
+
+    /**
+     * Method used to return the next 32 random bits.
+     * @return Random int.
+    */
+    public int nextInt()
+    {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Method used to return a random int from 0 (inclusive) to bound (exclusive).
+     * @param bound Upper bound (positive).
+     * @return Random int in the range.
+     * @throws IllegalArgumentException If the bound is not positive.
+    */
+    public int nextInt(int bound)
+    {
+        if (bound <= 0) throw new IllegalArgumentException("SplitMix64Random: bound must be positive.");
+
+        long m = (nextLong() >>> 32) * bound;
+        long l = m & 0xFFFFFFFFL;
+
+        if (l < bound) {
+            long t = (0x100000000L - bound) % bound;
+            while (l < t) {
+                m = (nextLong() >>> 32) * bound;
+                l = m & 0xFFFFFFFFL;
+            }
+        }
+
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Method used to return a random int from origin (inclusive) to bound
+     * (exclusive), nextInt(bound - origin) offset by origin.
+     * @param origin Lower bound.
+     * @param bound Upper bound (greater than origin, range up to Integer.MAX_VALUE).
+     * @return Random int in the range.
+     * @throws IllegalArgumentException If the range is empty or too large.
+    */
+    public int nextInt(int origin, int bound)
+    {
+        if ((bound <= origin) || (bound - origin <= 0))
+            throw new IllegalArgumentException("SplitMix64Random: bad range " + origin + " - " + bound + ".");
+
+        return origin + nextInt(bound - origin);
+    }
+
+    /**
+     * Method used to return the class instance as a string value (the state is
+     * not shown, it would give away the numbers to come).
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "SplitMix64Random";
+    }
+}
@@ -14,15 +14,20 @@ import com.slackandassociates.cards.*;
  * <b>Changes:</b>
  * <ul>
  * <li> 2022-02-20 - Initial release.
+ * <li> 2026-10-17 - Added card factory constant (FACTORY) for use with CardDeck.
+ * <li> 2026-10-17 - Card type now looked up in a table indexed by card value,
+ * table available using the static cardType() method.
  * </ul>
  * @see CardEnum
  * @author Michael G. Slack
  * @author mike.g.slack@gmail.com
  * @created 2022-02-20
- * @version Version 1.00 2022-02-20
+ * @version Version 1.01 2026-10-17
 */
 public class MilestoneCard implements Card
 {
+    static final long serialVersionUID = -4721378587218615121L;
+
     // public static return values
     /** Invalid value return (from most methods). */
     public static final int JMC_INVALID_RETURN = BlankCard.JC_INVALID_RETURN;
@@ -77,6 +82,18 @@ public class MilestoneCard implements Card
     /** Card type - Mileage. */
     public static final int JMC_MILEAGE = 3;
 
+    /** Card factory creating MilestoneCard instances, for use with the CardDeck. */
+    public static final CardFactory FACTORY = MilestoneCard::new;
+
+    /** Size of the card type table (card values 0 - 21). */
+    private static final int TABLE_SIZE = 22;
+    /** Card type by card value. */
+    private static final byte[] TYPE_TABLE = new byte[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) TYPE_TABLE[i] = (byte) calcCardType(i);
+    }
+
     // private references
     private CardEnum cardValue = BlankCardEnum.NO_CARD;
     private int compMode = Card.JC_COMP_DEFAULT; // only value allowed
@@ -103,6 +120,37 @@ public class MilestoneCard implements Card
         cardValue = ceCardVal;
     }
 
+    // ------------------ Private Static Methods ------------------------
+    // (used to build the card type table)
+
+    private static int calcCardType(int iValue)
+    {
+        int typ = JMC_INVALID_RETURN;
+
+        if (iValue >= JMC_OUT_OF_GAS && iValue <= JMC_STOP)
+            typ = JMC_HAZARD;
+        else if (iValue >= JMC_GAS && iValue <= JMC_ROLL)
+            typ = JMC_REMEDY;
+        else if (iValue >= JMC_EXTRA_TANK && iValue <= JMC_RIGHT_OF_WAY)
+            typ = JMC_SAFETY;
+        else if (iValue >= JMC_M200 && iValue <= JMC_M25)
+            typ = JMC_MILEAGE;
+
+        return typ;
+    }
+
+    // ------------------ Public Static Methods --------------------------
+
+    /**
+     * Method used to return the type of a milestone card value (table lookup).
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return A JMC_type constant, JMC_INVALID_RETURN if not a milestone card.
+    */
+    public static int cardType(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < TABLE_SIZE)) ? TYPE_TABLE[iValue] : JMC_INVALID_RETURN;
+    }
+
     // ------------------ Public Methods --------------------------------
 
     /**
@@ -149,18 +197,7 @@ public class MilestoneCard implements Card
     */
     public int getCardSuit()
     {
-        int typ = JMC_INVALID_RETURN;
-
-        if (cardValue.getValue() >= JMC_OUT_OF_GAS && cardValue.getValue() <= JMC_STOP)
-            typ = JMC_HAZARD;
-        else if (cardValue.getValue() >= JMC_GAS && cardValue.getValue() <= JMC_ROLL)
-            typ = JMC_REMEDY;
-        else if (cardValue.getValue() >= JMC_EXTRA_TANK && cardValue.getValue() <= JMC_RIGHT_OF_WAY)
-            typ = JMC_SAFETY;
-        else if (cardValue.getValue() >= JMC_M200 && cardValue.getValue() <= JMC_M25)
-            typ = JMC_MILEAGE;
-
-        return typ;
+        return cardType(cardValue.getValue());
     }
 
     /**
@@ -13,14 +13,24 @@ import com.slackandassociates.cards.*;
  * <b>Changes:</b>
  * <ul>
  * <li> 2022-02-20 - Initial release.
+ * <li> 2026-10-17 - Added fromValue() lookup and readResolve() (deserialized values
+ * resolve to the constants), serial version UID fixed at the 1.00 value.
  * </ul>
  * @author Michael G. Slack
  * @author mike.g.slack@gmail.com
  * @created 2022-02-20
- * @version Version 1.00 2022-02-20
+ * @version Version 1.01 2026-10-17
 */
 public class MilestoneCardEnum implements CardEnum
 {
+    static final long serialVersionUID = 707439109833216253L;
+
+    // private statics (declared before the constants, filled in by the constructor)
+    /** Largest card value defined (normal placeholder). */
+    private static final int MAX_VALUE = 21;
+    /** Card value constants by value. */
+    private static final CardEnum[] VALUES = new CardEnum[MAX_VALUE + 1];
+
     // public constants
     // The following numbers assigned to the card as the value of
     // the card enumeration match up to the name of the image file
@@ -90,10 +100,35 @@ public class MilestoneCardEnum implements CardEnum
     private MilestoneCardEnum(int iVal)
     {
         iValue = iVal;
+        VALUES[iVal] = this;
+    }
+
+    // ------------------- Serialization Methods --------------------
+
+    /**
+     * Method used to replace a deserialized enumeration with the constant of
+     * the same value.
+     * @return The matching constant (this if no constant matches).
+    */
+    private Object readResolve()
+    {
+        CardEnum ce = fromValue(iValue);
+
+        return (ce != null) ? ce : this;
     }
 
     // ----------------------- Public Methods -----------------------
 
+    /**
+     * Method used to return the card enumeration constant of a card value.
+     * @param iVal Card value (getValue() of the constant).
+     * @return The MilestoneCardEnum constant with the value, null if none.
+    */
+    public static CardEnum fromValue(int iVal)
+    {
+        return ((iVal >= 0) && (iVal <= MAX_VALUE)) ? VALUES[iVal] : null;
+    }
+
     /**
      * Method used to return the value of this enumeration as a int.
      * @return The value of the card enumeration instance.
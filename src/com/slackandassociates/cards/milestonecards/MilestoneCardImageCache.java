@@ -14,11 +14,13 @@ import com.slackandassociates.cards.CardImageCache;
  * <b>Changes</b>
  * <ul>
  * <li> 2022-02-20 - Initial release.
+ * <li> 2026-10-17 - Added image size methods (used to size the image atlas).
+ * <li> 2026-10-17 - Added image offset method.
  * </ul>
  * @author Michael G. Slack
  * @author mike.g.slack@gmail.com
  * @created 2022-02-20
- * @version Version 1.00 2022-02-20
+ * @version Version 1.02 2026-10-17
 */
 public class MilestoneCardImageCache extends CardImageCache
 {
@@ -77,4 +79,34 @@ public class MilestoneCardImageCache extends CardImageCache
             loadImage(i, tk);
         }
     }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to return the width of the card images.
+     * @return IMAGE_WIDTH.
+    */
+    public int getImageWidth()
+    {
+        return IMAGE_WIDTH;
+    }
+
+    /**
+     * Method used to return the height of the card images.
+     * @return IMAGE_HEIGHT.
+    */
+    public int getImageHeight()
+    {
+        return IMAGE_HEIGHT;
+    }
+
+    /**
+     * Method used to return a good offset to use when laying cards on top of
+     * each other.
+     * @return IMAGE_OFFSET.
+    */
+    public int getImageOffset()
+    {
+        return IMAGE_OFFSET;
+    }
 }
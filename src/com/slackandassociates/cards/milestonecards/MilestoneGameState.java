@@ -0,0 +1,550 @@
+package com.slackandassociates.cards.milestonecards;
+
+import java.io.*;
+import com.slackandassociates.cards.*;
+
+/**
+ * Class holds the state of a milestone game round in a compact, copyable form
+ * (for game servers and for AI opponents searching ahead).  Each player's
+ * tableau is kept in one int of bit flags (battle pile top card, speed limit,
+ * safeties, coup fourres and 200 mile cards played) plus a mileage counter, and
+ * each player's hand is kept as a long holding the count of each card value in
+ * three bits (card value v in bits 3(v - 1) .. 3(v - 1) + 2).  Legal play checks
+ * are a few flag tests, no piles are scanned.<br>
+ * Rules followed:
+ * <ul>
+ * <li> Mileage is played when rolling (roll on the battle pile, or with
+ * right-of-way a remedy or nothing), only 50 or 25 while speed limited, no more
+ * than two 200s and not past the trip distance.
+ * <li> Hazards (except speed limit) are played on a rolling opponent, speed
+ * limit on an opponent not already limited.  A player's safety protects them
+ * from its hazards (right-of-way from stop and speed limit).
+ * <li> A safety played clears its hazard from the player's piles and gives the
+ * player another turn.  A safety played against the hazard just played on the
+ * player is a coup fourre, taking the turn from the player after the attacker.
+ * </ul>
+ * Drawing is left to the caller (add the card drawn with addCard() before
+ * generating the moves of the current player).  Moves are the int codes of the
+ * MilestoneMoveGenerator. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see MilestoneMoveGenerator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class MilestoneGameState
+    implements Serializable
+{
+    static final long serialVersionUID = 3561902417730826154L;
+
+    // public statics
+    /** Default trip distance (miles). */
+    public static final int DEF_TRIP_MILES = 1000;
+    /** Maximum number of 200 mile cards a player can play. */
+    public static final int MAX_200S = 2;
+    /** Maximum number of players. */
+    public static final int MAX_PLAYERS = 6;
+    /** Maximum count of a card value in a hand. */
+    public static final int MAX_CARD_COUNT = 7;
+    /** Speed a speed limited player can not go over. */
+    public static final int LIMIT_MILES = 50;
+
+    // package statics (hand packing)
+    /** Bits used by the count of a card value in a hand. */
+    static final int COUNT_BITS = 3;
+    /** Low bit of every card value count in a hand. */
+    static final long COUNT_LOW_BITS = 0x0049249249249249L;
+
+    // private statics (player flag layout)
+    private static final int BATTLE_MASK = 0x1F;
+    private static final int LIMIT_FLAG = 0x20;
+    private static final int SAFETY_SHIFT = 6;
+    private static final int CF_SHIFT = 10;
+    private static final int M200_SHIFT = 14;
+    private static final int M200_MASK = 0x3 << M200_SHIFT;
+    private static final int NO_ATTACK = -1;
+    private static final int TABLE_SIZE = MilestoneCard.JMC_M25 + 1;
+    /** Miles of each card value (0 if not mileage). */
+    private static final int[] MILES = new int[TABLE_SIZE];
+    /** Safety protecting from each hazard value (0 if not a hazard). */
+    private static final int[] SAFETY_OF = new int[TABLE_SIZE];
+
+    static {
+        MILES[MilestoneCard.JMC_M200] = 200;
+        MILES[MilestoneCard.JMC_M100] = 100;
+        MILES[MilestoneCard.JMC_M75] = 75;
+        MILES[MilestoneCard.JMC_M50] = 50;
+        MILES[MilestoneCard.JMC_M25] = 25;
+        SAFETY_OF[MilestoneCard.JMC_OUT_OF_GAS] = MilestoneCard.JMC_EXTRA_TANK;
+        SAFETY_OF[MilestoneCard.JMC_FLAT_TIRE] = MilestoneCard.JMC_PERMANENT_TIRE;
+        SAFETY_OF[MilestoneCard.JMC_ACCIDENT] = MilestoneCard.JMC_DRIVING_ACE;
+        SAFETY_OF[MilestoneCard.JMC_SPEED_LIMIT_50] = MilestoneCard.JMC_RIGHT_OF_WAY;
+        SAFETY_OF[MilestoneCard.JMC_STOP] = MilestoneCard.JMC_RIGHT_OF_WAY;
+    }
+
+    // private references
+    private final int iNumPlayers;
+    private final int iTripMiles;
+    private final int[] flags;
+    private final int[] miles;
+    private final long[] hands;
+    private int iCurrent = 0;
+    private int iAttack = NO_ATTACK;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create the starting state of a round (empty tableaus and
+     * hands) with the default trip distance.
+     * @param iPlayers Number of players (2 - MAX_PLAYERS).
+    */
+    public MilestoneGameState(int iPlayers)
+    {
+        this(iPlayers, DEF_TRIP_MILES);
+    }
+
+    /**
+     * Constructor to create the starting state of a round (empty tableaus and
+     * hands).
+     * @param iPlayers Number of players (2 - MAX_PLAYERS).
+     * @param iTrip Trip distance in miles.
+     * @throws IllegalArgumentException If the number of players or the trip
+     * distance is not valid.
+    */
+    public MilestoneGameState(int iPlayers, int iTrip)
+    {
+        if ((iPlayers < 2) || (iPlayers > MAX_PLAYERS))
+            throw new IllegalArgumentException("MilestoneGameState: players must be 2 - " + MAX_PLAYERS + ".");
+        if (iTrip <= 0)
+            throw new IllegalArgumentException("MilestoneGameState: trip distance must be positive.");
+
+        iNumPlayers = iPlayers;
+        iTripMiles = iTrip;
+        flags = new int[iPlayers];
+        miles = new int[iPlayers];
+        hands = new long[iPlayers];
+    }
+
+    /**
+     * Constructor to create a copy of a game state.
+     * @param state MilestoneGameState to copy.
+    */
+    public MilestoneGameState(MilestoneGameState state)
+    {
+        this(state.iNumPlayers, state.iTripMiles);
+        copyFrom(state);
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static int safetyBit(int iSafety)
+    {
+        return 1 << (SAFETY_SHIFT + iSafety - MilestoneCard.JMC_EXTRA_TANK);
+    }
+
+    private void nextPlayer()
+    {
+        iCurrent = (iCurrent + 1) % iNumPlayers;
+    }
+
+    private void playSafety(int iPlayer, int iSafety)
+    {
+        int f = flags[iPlayer] | safetyBit(iSafety);
+        int iTop = f & BATTLE_MASK;
+
+        if ((MilestoneCard.cardType(iTop) == MilestoneCard.JMC_HAZARD) && (SAFETY_OF[iTop] == iSafety))
+            f &= ~BATTLE_MASK;
+        if (iSafety == MilestoneCard.JMC_RIGHT_OF_WAY) f &= ~LIMIT_FLAG;
+        flags[iPlayer] = f;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to copy another game state into this one (no objects are
+     * created, for reusing states while searching).
+     * @param state MilestoneGameState to copy (same number of players).
+     * @throws IllegalArgumentException If the number of players or trip
+     * distance differ.
+    */
+    public void copyFrom(MilestoneGameState state)
+    {
+        if ((state.iNumPlayers != iNumPlayers) || (state.iTripMiles != iTripMiles))
+            throw new IllegalArgumentException("MilestoneGameState: can only copy a state of the same game.");
+
+        System.arraycopy(state.flags, 0, flags, 0, iNumPlayers);
+        System.arraycopy(state.miles, 0, miles, 0, iNumPlayers);
+        System.arraycopy(state.hands, 0, hands, 0, iNumPlayers);
+        iCurrent = state.iCurrent;
+        iAttack = state.iAttack;
+    }
+
+    /**
+     * Method used to return the number of players.
+     * @return Number of players.
+    */
+    public int getNumPlayers()
+    {
+        return iNumPlayers;
+    }
+
+    /**
+     * Method used to return the trip distance.
+     * @return Trip distance in miles.
+    */
+    public int getTripMiles()
+    {
+        return iTripMiles;
+    }
+
+    /**
+     * Method used to return the player whose turn it is.
+     * @return Current player (0 - getNumPlayers() - 1).
+    */
+    public int getCurrentPlayer()
+    {
+        return iCurrent;
+    }
+
+    /**
+     * Method used to set the player whose turn it is.
+     * @param iPlayer Current player (0 - getNumPlayers() - 1).
+    */
+    public void setCurrentPlayer(int iPlayer)
+    {
+        iCurrent = iPlayer;
+    }
+
+    /**
+     * Method used to return the card on top of a player's battle pile.
+     * @param iPlayer Player.
+     * @return Card value (MilestoneCard.JMC_xxx), JMC_EMPTY_CARD if empty (or
+     * the hazard on it was cleared by a safety).
+    */
+    public int getBattleTop(int iPlayer)
+    {
+        return flags[iPlayer] & BATTLE_MASK;
+    }
+
+    /**
+     * Method used to determine if a player is speed limited.
+     * @param iPlayer Player.
+     * @return True if a speed limit is on top of the player's speed pile.
+    */
+    public boolean isSpeedLimited(int iPlayer)
+    {
+        return (flags[iPlayer] & LIMIT_FLAG) != 0;
+    }
+
+    /**
+     * Method used to determine if a player has played a safety.
+     * @param iPlayer Player.
+     * @param iSafety Safety card value (JMC_EXTRA_TANK .. JMC_RIGHT_OF_WAY).
+     * @return True if the safety is in the player's safety area.
+    */
+    public boolean hasSafety(int iPlayer, int iSafety)
+    {
+        return (flags[iPlayer] & safetyBit(iSafety)) != 0;
+    }
+
+    /**
+     * Method used to determine if a safety was played by a player as a coup fourre.
+     * @param iPlayer Player.
+     * @param iSafety Safety card value (JMC_EXTRA_TANK .. JMC_RIGHT_OF_WAY).
+     * @return True if the safety was a coup fourre.
+    */
+    public boolean isCoupFourre(int iPlayer, int iSafety)
+    {
+        return (flags[iPlayer] & (safetyBit(iSafety) << (CF_SHIFT - SAFETY_SHIFT))) != 0;
+    }
+
+    /**
+     * Method used to return the number of safeties a player has played.
+     * @param iPlayer Player.
+     * @return Number of safeties (0 - 4).
+    */
+    public int getSafetyCount(int iPlayer)
+    {
+        return Integer.bitCount((flags[iPlayer] >>> SAFETY_SHIFT) & 0xF);
+    }
+
+    /**
+     * Method used to return the number of coup fourres a player has made.
+     * @param iPlayer Player.
+     * @return Number of coup fourres (0 - 4).
+    */
+    public int getCoupFourreCount(int iPlayer)
+    {
+        return Integer.bitCount((flags[iPlayer] >>> CF_SHIFT) & 0xF);
+    }
+
+    /**
+     * Method used to return the miles a player has gone.
+     * @param iPlayer Player.
+     * @return Miles played.
+    */
+    public int getMiles(int iPlayer)
+    {
+        return miles[iPlayer];
+    }
+
+    /**
+     * Method used to return the number of 200 mile cards a player has played.
+     * @param iPlayer Player.
+     * @return Number of 200s (0 - MAX_200S).
+    */
+    public int get200Count(int iPlayer)
+    {
+        return (flags[iPlayer] & M200_MASK) >>> M200_SHIFT;
+    }
+
+    /**
+     * Method used to determine if a player has completed the trip.
+     * @param iPlayer Player.
+     * @return True if the player's miles reached the trip distance.
+    */
+    public boolean isTripComplete(int iPlayer)
+    {
+        return miles[iPlayer] == iTripMiles;
+    }
+
+    /**
+     * Method used to determine if a player is rolling (can play mileage and
+     * be hit by a hazard).
+     * @param iPlayer Player.
+     * @return True if roll is on top of the battle pile, or the player has
+     * right-of-way and the battle pile is empty or holds a remedy.
+    */
+    public boolean isRolling(int iPlayer)
+    {
+        int f = flags[iPlayer];
+        int iTop = f & BATTLE_MASK;
+
+        if (iTop == MilestoneCard.JMC_ROLL) return true;
+
+        return ((f & safetyBit(MilestoneCard.JMC_RIGHT_OF_WAY)) != 0) &&
+               ((iTop == MilestoneCard.JMC_EMPTY_CARD) || (MilestoneCard.cardType(iTop) == MilestoneCard.JMC_REMEDY));
+    }
+
+    /**
+     * Method used to determine if a player can play a card on their own
+     * tableau (mileage, remedy or safety).
+     * @param iPlayer Player.
+     * @param iValue Card value.
+     * @return True if the card can be played.
+    */
+    public boolean isPlayable(int iPlayer, int iValue)
+    {
+        int f = flags[iPlayer];
+        int iTop = f & BATTLE_MASK;
+
+        switch (MilestoneCard.cardType(iValue)) {
+            case MilestoneCard.JMC_MILEAGE:
+                return isRolling(iPlayer) && (miles[iPlayer] + MILES[iValue] <= iTripMiles) &&
+                       (((f & LIMIT_FLAG) == 0) || (MILES[iValue] <= LIMIT_MILES)) &&
+                       ((iValue != MilestoneCard.JMC_M200) || (((f & M200_MASK) >>> M200_SHIFT) < MAX_200S));
+            case MilestoneCard.JMC_REMEDY:
+                if (iValue == MilestoneCard.JMC_END_SPEED_LIMIT) return (f & LIMIT_FLAG) != 0;
+                if (iValue == MilestoneCard.JMC_ROLL)
+                    return ((f & safetyBit(MilestoneCard.JMC_RIGHT_OF_WAY)) == 0) &&
+                           ((iTop == MilestoneCard.JMC_EMPTY_CARD) || (iTop == MilestoneCard.JMC_STOP) ||
+                            ((MilestoneCard.cardType(iTop) == MilestoneCard.JMC_REMEDY) && (iTop != MilestoneCard.JMC_ROLL)));
+                // gas, spare tire, repairs fix the hazard five values below
+                return iTop == iValue - (MilestoneCard.JMC_GAS - MilestoneCard.JMC_OUT_OF_GAS);
+            case MilestoneCard.JMC_SAFETY:
+                return (f & safetyBit(iValue)) == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Method used to determine if a hazard can be played on a player.
+     * @param iPlayer Player attacked.
+     * @param iHazard Hazard card value (JMC_OUT_OF_GAS .. JMC_STOP).
+     * @return True if the hazard can be played on the player.
+    */
+    public boolean isAttackable(int iPlayer, int iHazard)
+    {
+        if (MilestoneCard.cardType(iHazard) != MilestoneCard.JMC_HAZARD) return false;
+        if ((flags[iPlayer] & safetyBit(SAFETY_OF[iHazard])) != 0) return false;
+        if (iHazard == MilestoneCard.JMC_SPEED_LIMIT_50) return (flags[iPlayer] & LIMIT_FLAG) == 0;
+
+        return isRolling(iPlayer);
+    }
+
+    /**
+     * Method used to return the player hit by the hazard just played (the
+     * player that can answer with a coup fourre).
+     * @return Player attacked, -1 if the last move was not a hazard.
+    */
+    public int getAttackedPlayer()
+    {
+        return (iAttack == NO_ATTACK) ? NO_ATTACK : iAttack >>> 8;
+    }
+
+    /**
+     * Method used to return the safety answering the hazard just played (as a
+     * coup fourre).
+     * @return Safety card value, JMC_EMPTY_CARD if the last move was not a hazard.
+    */
+    public int getCoupFourreSafety()
+    {
+        return (iAttack == NO_ATTACK) ? MilestoneCard.JMC_EMPTY_CARD : SAFETY_OF[iAttack & 0xFF];
+    }
+
+    /**
+     * Method used to return a player's hand as packed card counts.
+     * @param iPlayer Player.
+     * @return Packed card counts (3 bits per card value).
+    */
+    public long getHand(int iPlayer)
+    {
+        return hands[iPlayer];
+    }
+
+    /**
+     * Method used to set a player's hand from packed card counts.
+     * @param iPlayer Player.
+     * @param hand Packed card counts (3 bits per card value).
+    */
+    public void setHand(int iPlayer, long hand)
+    {
+        hands[iPlayer] = hand;
+    }
+
+    /**
+     * Method used to set a player's hand from the cards of a card hand.
+     * @param iPlayer Player.
+     * @param hand CardHand holding MilestoneCardEnum cards.
+    */
+    public void setHand(int iPlayer, CardHand hand)
+    {
+        hands[iPlayer] = 0L;
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) addCard(iPlayer, c.getCardValue().getValue());
+        }
+    }
+
+    /**
+     * Method used to return the count of a card value in a player's hand.
+     * @param iPlayer Player.
+     * @param iValue Card value.
+     * @return Number of the cards held.
+    */
+    public int getCardCount(int iPlayer, int iValue)
+    {
+        return (int) (hands[iPlayer] >>> ((iValue - 1) * COUNT_BITS)) & MAX_CARD_COUNT;
+    }
+
+    /**
+     * Method used to return the number of cards in a player's hand.
+     * @param iPlayer Player.
+     * @return Number of cards held.
+    */
+    public int getHandSize(int iPlayer)
+    {
+        long h = hands[iPlayer];
+
+        return Long.bitCount(h & COUNT_LOW_BITS) + (2 * Long.bitCount(h & (COUNT_LOW_BITS << 1))) +
+               (4 * Long.bitCount(h & (COUNT_LOW_BITS << 2)));
+    }
+
+    /**
+     * Method used to add a card (drawn or dealt) to a player's hand.
+     * @param iPlayer Player.
+     * @param iValue Card value (JMC_OUT_OF_GAS .. JMC_M25).
+     * @throws IllegalArgumentException If not a milestone card value.
+     * @throws IllegalStateException If the hand already holds MAX_CARD_COUNT of the card.
+    */
+    public void addCard(int iPlayer, int iValue)
+    {
+        if (MilestoneCard.cardType(iValue) == MilestoneCard.JMC_INVALID_RETURN)
+            throw new IllegalArgumentException("MilestoneGameState: " + iValue + " is not a milestone card value.");
+        if (getCardCount(iPlayer, iValue) == MAX_CARD_COUNT)
+            throw new IllegalStateException("MilestoneGameState: too many of card " + iValue + " in hand.");
+
+        hands[iPlayer] += 1L << ((iValue - 1) * COUNT_BITS);
+    }
+
+    /**
+     * Method used to remove a card from a player's hand.
+     * @param iPlayer Player.
+     * @param iValue Card value.
+     * @throws IllegalStateException If the card is not in the hand.
+    */
+    public void removeCard(int iPlayer, int iValue)
+    {
+        if ((iValue <= 0) || (iValue >= TABLE_SIZE) || (getCardCount(iPlayer, iValue) == 0))
+            throw new IllegalStateException("MilestoneGameState: card " + iValue + " not in hand.");
+
+        hands[iPlayer] -= 1L << ((iValue - 1) * COUNT_BITS);
+    }
+
+    /**
+     * Method used to apply a move (from the MilestoneMoveGenerator) to the state.
+     * The card is taken from the hand of the player moving (the current player,
+     * or the attacked player for a coup fourre) and the turn passes on (except
+     * after a safety).
+     * @param iMove Move code.
+     * @throws IllegalArgumentException If the move is not legal in the state.
+    */
+    public void apply(int iMove)
+    {
+        if (!MilestoneMoveGenerator.isLegal(this, iMove))
+            throw new IllegalArgumentException("MilestoneGameState: illegal move " + MilestoneMoveGenerator.toString(iMove) + ".");
+
+        int iValue = MilestoneMoveGenerator.moveCard(iMove);
+        int iTarget = MilestoneMoveGenerator.moveTarget(iMove);
+
+        switch (MilestoneMoveGenerator.moveType(iMove)) {
+            case MilestoneMoveGenerator.MOVE_PLAY:
+                removeCard(iCurrent, iValue);
+                iAttack = NO_ATTACK;
+                switch (MilestoneCard.cardType(iValue)) {
+                    case MilestoneCard.JMC_MILEAGE:
+                        miles[iCurrent] += MILES[iValue];
+                        if (iValue == MilestoneCard.JMC_M200) flags[iCurrent] += 1 << M200_SHIFT;
+                        nextPlayer();
+                        break;
+                    case MilestoneCard.JMC_REMEDY:
+                        if (iValue == MilestoneCard.JMC_END_SPEED_LIMIT)
+                            flags[iCurrent] &= ~LIMIT_FLAG;
+                        else
+                            flags[iCurrent] = (flags[iCurrent] & ~BATTLE_MASK) | iValue;
+                        nextPlayer();
+                        break;
+                    default: // safety, player goes again
+                        playSafety(iCurrent, iValue);
+                        break;
+                }
+                break;
+            case MilestoneMoveGenerator.MOVE_ATTACK:
+                removeCard(iCurrent, iValue);
+                if (iValue == MilestoneCard.JMC_SPEED_LIMIT_50)
+                    flags[iTarget] |= LIMIT_FLAG;
+                else
+                    flags[iTarget] = (flags[iTarget] & ~BATTLE_MASK) | iValue;
+                iAttack = (iTarget << 8) | iValue;
+                nextPlayer();
+                break;
+            case MilestoneMoveGenerator.MOVE_DISCARD:
+                removeCard(iCurrent, iValue);
+                iAttack = NO_ATTACK;
+                nextPlayer();
+                break;
+            default: // coup fourre, attacked player takes the turn
+                removeCard(iTarget, iValue);
+                playSafety(iTarget, iValue);
+                flags[iTarget] |= safetyBit(iValue) << (CF_SHIFT - SAFETY_SHIFT);
+                iAttack = NO_ATTACK;
+                iCurrent = iTarget;
+                break;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.slackandassociates.cards.milestonecards;
+
+/**
+ * Class used to generate the legal moves of a milestone game state.  A move is
+ * an int code holding the move type, the card value played and the target
+ * player (the player whose tableau the card goes on), so move lists are int
+ * arrays and generating them creates no objects.  The hand is walked by its
+ * distinct card values (from the packed counts) and each value is checked with
+ * the state's flag tests, so a hand's moves are generated in a few hundred
+ * nanoseconds.  Every distinct card in the hand can be discarded, duplicate
+ * cards give one move. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see MilestoneGameState
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class MilestoneMoveGenerator
+{
+    // public statics (move types)
+    /** No move. */
+    public static final int NO_MOVE = 0;
+    /** Move type - play a mileage, remedy or safety card on the player's own tableau. */
+    public static final int MOVE_PLAY = 1;
+    /** Move type - play a hazard on an opponent. */
+    public static final int MOVE_ATTACK = 2;
+    /** Move type - discard a card. */
+    public static final int MOVE_DISCARD = 3;
+    /** Move type - play a safety as a coup fourre (out of turn). */
+    public static final int MOVE_COUP_FOURRE = 4;
+    /** Size of a move array large enough for any state. */
+    public static final int MAX_MOVES = 64;
+
+    // private statics
+    private static final int TYPE_SHIFT = 16;
+    private static final int TARGET_SHIFT = 8;
+    private static final int FIELD_MASK = 0xFF;
+    private static final String[] TYPE_NAMES = {"none", "play", "attack", "discard", "coup fourre"};
+
+    // --------------------------- Constructors -------------------------------
+
+    private MilestoneMoveGenerator()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to create a move code.
+     * @param iType Move type (MOVE_xxx).
+     * @param iValue Card value played.
+     * @param iTarget Player whose tableau the card goes on (the player moving
+     * for a discard).
+     * @return Move code.
+    */
+    public static int move(int iType, int iValue, int iTarget)
+    {
+        return (iType << TYPE_SHIFT) | (iTarget << TARGET_SHIFT) | iValue;
+    }
+
+    /**
+     * Method used to return the type of a move.
+     * @param iMove Move code.
+     * @return Move type (MOVE_xxx).
+    */
+    public static int moveType(int iMove)
+    {
+        return iMove >>> TYPE_SHIFT;
+    }
+
+    /**
+     * Method used to return the card value played by a move.
+     * @param iMove Move code.
+     * @return Card value.
+    */
+    public static int moveCard(int iMove)
+    {
+        return iMove & FIELD_MASK;
+    }
+
+    /**
+     * Method used to return the target player of a move.
+     * @param iMove Move code.
+     * @return Player whose tableau the card goes on.
+    */
+    public static int moveTarget(int iMove)
+    {
+        return (iMove >>> TARGET_SHIFT) & FIELD_MASK;
+    }
+
+    /**
+     * Method used to generate the moves of the current player.
+     * @param state MilestoneGameState to generate the moves of.
+     * @param moves Array the move codes are stored into (MAX_MOVES from iOffset is enough).
+     * @param iOffset Position of the first move stored.
+     * @return Number of moves stored.
+    */
+    public static int generate(MilestoneGameState state, int[] moves, int iOffset)
+    {
+        int iPlayer = state.getCurrentPlayer();
+        int iPlayers = state.getNumPlayers();
+        long hand = state.getHand(iPlayer);
+        long held = (hand | (hand >>> 1) | (hand >>> 2)) & MilestoneGameState.COUNT_LOW_BITS;
+        int n = iOffset;
+
+        while (held != 0L) {
+            int iValue = (Long.numberOfTrailingZeros(held) / MilestoneGameState.COUNT_BITS) + 1;
+
+            held &= held - 1L;
+            if (MilestoneCard.cardType(iValue) == MilestoneCard.JMC_HAZARD) {
+                for (int t = 0; t < iPlayers; t++) {
+                    if ((t != iPlayer) && state.isAttackable(t, iValue)) moves[n++] = move(MOVE_ATTACK, iValue, t);
+                }
+            }
+            else if (state.isPlayable(iPlayer, iValue)) {
+                moves[n++] = move(MOVE_PLAY, iValue, iPlayer);
+            }
+            moves[n++] = move(MOVE_DISCARD, iValue, iPlayer);
+        }
+
+        return n - iOffset;
+    }
+
+    /**
+     * Method used to return the coup fourre the attacked player can make
+     * against the hazard just played.
+     * @param state MilestoneGameState to check.
+     * @return Coup fourre move code, NO_MOVE if none.
+    */
+    public static int coupFourre(MilestoneGameState state)
+    {
+        int iTarget = state.getAttackedPlayer();
+
+        if (iTarget < 0) return NO_MOVE;
+
+        int iSafety = state.getCoupFourreSafety();
+
+        return (state.getCardCount(iTarget, iSafety) > 0) ? move(MOVE_COUP_FOURRE, iSafety, iTarget) : NO_MOVE;
+    }
+
+    /**
+     * Method used to determine if a move is legal in a state.
+     * @param state MilestoneGameState to check.
+     * @param iMove Move code.
+     * @return True if the move can be applied.
+    */
+    public static boolean isLegal(MilestoneGameState state, int iMove)
+    {
+        int iPlayer = state.getCurrentPlayer();
+        int iValue = moveCard(iMove);
+        int iTarget = moveTarget(iMove);
+
+        if ((iTarget >= state.getNumPlayers()) || (MilestoneCard.cardType(iValue) == MilestoneCard.JMC_INVALID_RETURN))
+            return false;
+
+        switch (moveType(iMove)) {
+            case MOVE_PLAY:
+                return (iTarget == iPlayer) && (state.getCardCount(iPlayer, iValue) > 0) && state.isPlayable(iPlayer, iValue);
+            case MOVE_ATTACK:
+                return (iTarget != iPlayer) && (state.getCardCount(iPlayer, iValue) > 0) && state.isAttackable(iTarget, iValue);
+            case MOVE_DISCARD:
+                return (iTarget == iPlayer) && (state.getCardCount(iPlayer, iValue) > 0);
+            case MOVE_COUP_FOURRE:
+                return (iTarget == state.getAttackedPlayer()) && (iValue == state.getCoupFourreSafety()) &&
+                       (state.getCardCount(iTarget, iValue) > 0);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Method used to return a move as a string (for logging).
+     * @param iMove Move code.
+     * @return String describing the move.
+    */
+    public static String toString(int iMove)
+    {
+        int iType = moveType(iMove);
+        String sType = (iType < TYPE_NAMES.length) ? TYPE_NAMES[iType] : "?" + iType + "?";
+
+        return sType + " card " + moveCard(iMove) + " -> player " + moveTarget(iMove);
+    }
+}
@@ -16,15 +16,20 @@ import com.slackandassociates.cards.*;
  * <li> 2001/07/18 - Initial release.
  * <li> 2001/08/09 - Revised to use CardEnum class.
  * <li> 2004-08-19 - Modified to use Card interface definition.
+ * <li> 2026-10-17 - Added card factory constant (FACTORY) for use with CardDeck.
+ * <li> 2026-10-17 - Card attributes (color, suit, point values) now looked up in
+ * tables indexed by card value, tables available using the static methods.
  * </ul>
  * @see CardEnum
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2001-07-18
- * @version Version 2.00 2004-08-19
+ * @version Version 2.01 2026-10-17
 */
 public class PlayingCard implements Card
 {
+    static final long serialVersionUID = 3581117026643924575L;
+
     // public static return values
     /** Invalid value return (from most methods). */
     public static final int JPC_INVALID_RETURN = BlankCard.JC_INVALID_RETURN;
@@ -70,6 +75,29 @@ public class PlayingCard implements Card
     /** Card value - king. */
     public static final int JPC_KING = 13;
 
+    /** Card factory creating PlayingCard instances, for use with the CardDeck. */
+    public static final CardFactory FACTORY = PlayingCard::new;
+
+    /** Size of the attribute tables (card values 0 - 401). */
+    private static final int TABLE_SIZE = 402;
+    /** Card color by card value. */
+    private static final byte[] COLOR_TABLE = new byte[TABLE_SIZE];
+    /** Card suit by card value. */
+    private static final byte[] SUIT_TABLE = new byte[TABLE_SIZE];
+    /** Card point value by card value. */
+    private static final byte[] POINT_TABLE = new byte[TABLE_SIZE];
+    /** Card point value (face cards 10) by card value. */
+    private static final byte[] FACE10_TABLE = new byte[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            COLOR_TABLE[i] = (byte) calcCardColor(i);
+            SUIT_TABLE[i] = (byte) calcCardSuit(i);
+            POINT_TABLE[i] = (byte) calcCardPointValue(i);
+            FACE10_TABLE[i] = (byte) calcCardPointValueFace10(i);
+        }
+    }
+
     // private references
     private CardEnum cardValue = BlankCardEnum.NO_CARD;
     private int compMode = Card.JC_COMP_DEFAULT;
@@ -94,41 +122,13 @@ public class PlayingCard implements Card
         cardValue = ceCardVal;
     }
 
-    // ------------------ Public Methods --------------------------------
+    // ------------------ Private Static Methods ------------------------
+    // (used to build the attribute tables)
 
-    /** Method used to return the value of the card instance as the
-     * constant enumerated value.
-     * @return CardEnum of the Card instance (value of the card).
-     * @see PlayingCardEnum
-    */
-    public CardEnum getCardValue()
-    {
-        return cardValue;
-    }
-
-    /** Method used to set the card value.  Need to specify one of the
-     * CardEnum values that will represent the value of this card.
-     * @param ceCV CardEnum containing the new card value to set card instance to.
-     * @throws CardInvalidEnumException when an CardEnum instance is passed in that
-     * is not a PlayingCardEnum instance.
-     * @see PlayingCardEnum
-    */
-    public void setCardValue(CardEnum ceCV) throws CardInvalidEnumException
-    {
-        if (ceCV instanceof PlayingCardEnum)
-            cardValue = ceCV;
-        else
-            throw new CardInvalidEnumException("PlayingCard.setCardValue - expecting a PlayingCardEnum instance.");
-    }
-
-    /** Method used to return the color of the card (red/black).  Jokers are
-     * valid cards for this method.
-     * @return A JPC_color constant containing the color of the card value.
-    */
-    public int getCardColor()
+    private static int calcCardColor(int iValue)
     {
         int iRet = JPC_INVALID_RETURN;
-        int ii = cardValue.getValue();
+        int ii = iValue;
 
         if (((ii >= PlayingCardEnum.ACE_OF_DIAMONDS.getValue()) &&
              (ii <= PlayingCardEnum.KING_OF_HEARTS.getValue())) ||
@@ -144,13 +144,10 @@ public class PlayingCard implements Card
         return iRet;
     }
 
-    /** Method used to return the suit of the card.
-     * @return A JPC_suit constant containing the suit of the card value.
-    */
-    public int getCardSuit()
+    private static int calcCardSuit(int iValue)
     {
         int iRet = JPC_INVALID_RETURN;
-        int ii = cardValue.getValue();
+        int ii = iValue;
 
         if ((ii >= PlayingCardEnum.ACE_OF_CLUBS.getValue()) &&
             (ii <= PlayingCardEnum.KING_OF_CLUBS.getValue()))
@@ -168,17 +165,10 @@ public class PlayingCard implements Card
         return iRet;
     }
 
-    /** Method used to return the point value of the card value.  Returns
-     * just to point value of the card (i.e., 1 - 13) without the suit. <br>
-     * If the card instance is a joker, the card point value is returned
-     * as zero.  It is up to the caller of the method to provide value to
-     * jokers if using.
-     * @return A JPC_xxx card value constant (ace .. king).
-    */
-    public int getCardPointValue()
+    private static int calcCardPointValue(int iValue)
     {
         int iRet = JPC_INVALID_RETURN;
-        int ii = cardValue.getValue();
+        int ii = iValue;
 
         // standardize on CLUB values (== JPC_ACE .. JPC_KING values)
         if ((ii >= PlayingCardEnum.ACE_OF_SPADES.getValue()) &&
@@ -197,20 +187,16 @@ public class PlayingCard implements Card
             iRet = ii;
 
         // check for jokers - return 0 for point value of them...
-        if ((cardValue == PlayingCardEnum.RED_JOKER) ||
-            (cardValue == PlayingCardEnum.BLACK_JOKER))
+        if ((iValue == PlayingCardEnum.RED_JOKER.getValue()) ||
+            (iValue == PlayingCardEnum.BLACK_JOKER.getValue()))
             iRet = 0;
 
         return iRet;
     }
 
-    /** Method used to get the point value of a card returning 10 for face
-     * cards (jack, queen, king).
-     * @return A value between 1 and 10 representing the point value of a card.
-    */
-    public int getCardPointValueFace10()
+    private static int calcCardPointValueFace10(int iValue)
     {
-        int iRet = getCardPointValue();
+        int iRet = calcCardPointValue(iValue);
 
         if ((iRet >= PlayingCardEnum.JACK_OF_CLUBS.getValue()) &&
             (iRet <= PlayingCardEnum.KING_OF_CLUBS.getValue()))
@@ -219,6 +205,112 @@ public class PlayingCard implements Card
         return iRet;
     }
 
+    // ------------------ Public Static Methods --------------------------
+
+    /** Method used to return the color of a card value (table lookup).
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return A JPC_color constant, JPC_INVALID_RETURN if not a colored card.
+    */
+    public static int cardColor(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < TABLE_SIZE)) ? COLOR_TABLE[iValue] : JPC_INVALID_RETURN;
+    }
+
+    /** Method used to return the suit of a card value (table lookup).
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return A JPC_suit constant, JPC_INVALID_RETURN if not a suited card.
+    */
+    public static int cardSuit(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < TABLE_SIZE)) ? SUIT_TABLE[iValue] : JPC_INVALID_RETURN;
+    }
+
+    /** Method used to return the point value of a card value (table lookup).
+     * Jokers have a point value of zero.
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return A JPC_xxx card value constant (ace .. king), JPC_INVALID_RETURN if
+     * not a playing card.
+    */
+    public static int cardPointValue(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < TABLE_SIZE)) ? POINT_TABLE[iValue] : JPC_INVALID_RETURN;
+    }
+
+    /** Method used to return the point value of a card value with face cards
+     * (jack, queen, king) returning 10 (table lookup).
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return A value between 0 and 10, JPC_INVALID_RETURN if not a playing card.
+    */
+    public static int cardPointValueFace10(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < TABLE_SIZE)) ? FACE10_TABLE[iValue] : JPC_INVALID_RETURN;
+    }
+
+    // ------------------ Public Methods --------------------------------
+
+    /** Method used to return the value of the card instance as the
+     * constant enumerated value.
+     * @return CardEnum of the Card instance (value of the card).
+     * @see PlayingCardEnum
+    */
+    public CardEnum getCardValue()
+    {
+        return cardValue;
+    }
+
+    /** Method used to set the card value.  Need to specify one of the
+     * CardEnum values that will represent the value of this card.
+     * @param ceCV CardEnum containing the new card value to set card instance to.
+     * @throws CardInvalidEnumException when an CardEnum instance is passed in that
+     * is not a PlayingCardEnum instance.
+     * @see PlayingCardEnum
+    */
+    public void setCardValue(CardEnum ceCV) throws CardInvalidEnumException
+    {
+        if (ceCV instanceof PlayingCardEnum)
+            cardValue = ceCV;
+        else
+            throw new CardInvalidEnumException("PlayingCard.setCardValue - expecting a PlayingCardEnum instance.");
+    }
+
+    /** Method used to return the color of the card (red/black).  Jokers are
+     * valid cards for this method.
+     * @return A JPC_color constant containing the color of the card value.
+    */
+    public int getCardColor()
+    {
+        return cardColor(cardValue.getValue());
+    }
+
+    /** Method used to return the suit of the card.
+     * @return A JPC_suit constant containing the suit of the card value.
+    */
+    public int getCardSuit()
+    {
+        return cardSuit(cardValue.getValue());
+    }
+
+    /** Method used to return the point value of the card value.  Returns
+     * just to point value of the card (i.e., 1 - 13) without the suit. <br>
+     * If the card instance is a joker, the card point value is returned
+     * as zero.  It is up to the caller of the method to provide value to
+     * jokers if using.
+     * @return A JPC_xxx card value constant (ace .. king).
+    */
+    public int getCardPointValue()
+    {
+        return cardPointValue(cardValue.getValue());
+    }
+
+    /** Method used to get the point value of a card returning 10 for face
+     * cards (jack, queen, king).
+     * @return A value between 1 and 10 representing the point value of a card.
+    */
+    public int getCardPointValueFace10()
+    {
+        return cardPointValueFace10(cardValue.getValue());
+    }
+
     /** Method used to return the card value (name) as a string.
      * @return String containing the name of the card.
     */
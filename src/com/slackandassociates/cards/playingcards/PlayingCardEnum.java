@@ -22,14 +22,25 @@ import com.slackandassociates.cards.*;
  *                   (2007!) and recently added placeholders.
  * <li> 2022-01-25 - Documentation on new placeholders needed to be updated (copy and
  *                   paste errors).
+ * <li> 2026-10-17 - Added fromValue() lookup, deserialized values now resolve to the
+ *                   constants (readResolve) so identity compares keep working.  Serial
+ *                   version UID fixed at the value of earlier releases.
  * </ul>
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2001-08-09
- * @version Version 2.04 2021-12-22
+ * @version Version 2.05 2026-10-17
 */
 public class PlayingCardEnum implements CardEnum
 {
+    static final long serialVersionUID = -4933134042182317615L;
+
+    // private statics (declared before the constants, filled in by the constructor)
+    /** Largest card value defined (black joker). */
+    private static final int MAX_VALUE = 401;
+    /** Card value constants by value. */
+    private static final CardEnum[] VALUES = new CardEnum[MAX_VALUE + 1];
+
     // public constants
     // The following numbers assigned to the card as the value of
     // the card enumeration match up to the name of the image file
@@ -196,10 +207,34 @@ public class PlayingCardEnum implements CardEnum
     private PlayingCardEnum(int iVal)
     {
         iValue = iVal;
+        VALUES[iVal] = this;
+    }
+
+    // ------------------- Serialization Methods --------------------
+
+    /** Method used to replace a deserialized enumeration with the matching
+     * constant (so '==' compares still work after a round trip).
+     * @return The constant with the same value (this if no constant matches).
+    */
+    private Object readResolve()
+    {
+        CardEnum ce = fromValue(iValue);
+
+        return (ce != null) ? ce : this;
     }
 
     // ----------------------- Public Methods -----------------------
 
+    /** Method used to return the card enumeration constant of a card value
+     * (table lookup).
+     * @param iVal Card value (getValue() of the constant).
+     * @return The PlayingCardEnum constant with the value, null if none.
+    */
+    public static CardEnum fromValue(int iVal)
+    {
+        return ((iVal >= 0) && (iVal <= MAX_VALUE)) ? VALUES[iVal] : null;
+    }
+
     /** Method used to return the value of this enumeration as a int.
      * @return The value of the card enumeration instance.
     */
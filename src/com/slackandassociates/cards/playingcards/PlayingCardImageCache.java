@@ -22,11 +22,14 @@ import com.slackandassociates.cards.CardImageCache;
  * <li> 2005-05-04 - Modified to load up two additional images.
  * <li> 2007-10-14 - Modified to load up the additional image.
  * <li> 2022-02-24 - Modified to inheriet from the abstract image cache class.
+ * <li> 2026-10-17 - Removed unused cache fields (cache kept by parent class).
+ * <li> 2026-10-17 - Added image size methods (used to size the image atlas).
+ * <li> 2026-10-17 - Added image offset method.
  * </ul>
  * @author Michael G. Slack
  * @author slack@attglobal.net
  * @created 2001-07-23
- * @version Version 3.00 2022-02-24
+ * @version Version 3.03 2026-10-17
 */
 public class PlayingCardImageCache extends CardImageCache
 {
@@ -36,12 +39,6 @@ public class PlayingCardImageCache extends CardImageCache
     /** Image extension. */
     private static final String CIC_EXT = ".gif";
 
-    // private references
-    /** Hashtable containing the cached images. */
-    private HashMap cardCache = new HashMap(70);
-    /** Cache loaded flag. */
-    private boolean bImagesLoaded = false;
-
     // public statics
     /** Width of card images (in pixels). */
     public static final int IMAGE_WIDTH = 71;
@@ -106,4 +103,34 @@ public class PlayingCardImageCache extends CardImageCache
         loadImage(PlayingCardEnum.RED_JOKER.getValue(), tk);
         loadImage(PlayingCardEnum.BLACK_JOKER.getValue(), tk);
     }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to return the width of the card images.
+     * @return IMAGE_WIDTH.
+    */
+    public int getImageWidth()
+    {
+        return IMAGE_WIDTH;
+    }
+
+    /**
+     * Method used to return the height of the card images.
+     * @return IMAGE_HEIGHT.
+    */
+    public int getImageHeight()
+    {
+        return IMAGE_HEIGHT;
+    }
+
+    /**
+     * Method used to return a good offset to use when laying cards on top of
+     * each other.
+     * @return IMAGE_OFFSET.
+    */
+    public int getImageOffset()
+    {
+        return IMAGE_OFFSET;
+    }
 }
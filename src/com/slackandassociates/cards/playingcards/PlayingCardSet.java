@@ -0,0 +1,373 @@
+package com.slackandassociates.cards.playingcards;
+
+import java.io.*;
+import com.slackandassociates.cards.*;
+
+/**
+ * Class defines a set of playing cards (standard 52 card deck, no jokers, card
+ * backs or symbols) backed by a 64-bit mask.  Bit (card value - 1) is set if the
+ * card is in the set, so each suit takes 13 bits (ace - king) starting with clubs
+ * at bit 0, diamonds at bit 13, hearts at bit 26 and spades at bit 39.  Add, remove,
+ * contains and size are constant time and do not allocate.<br>
+ * Intended for single deck games (a set can only hold one of each card), use the
+ * CardHand (or a counted hand) for hands holding duplicate cards.  Static methods
+ * are included to work directly on the long masks (for evaluators, etc.). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Card values of other card types (not PlayingCardEnum) are
+ *                   not mapped to playing cards.
+ * </ul>
+ * @see PlayingCardEnum
+ * @see CardHand
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public class PlayingCardSet
+    implements Serializable
+{
+    static final long serialVersionUID = 5283310648275024938L;
+
+    // public constants
+    /** Number of cards a playing card set can hold. */
+    public static final int NUM_CARDS = 52;
+    /** Number of ranks (cards) in each suit. */
+    public static final int NUM_RANKS = 13;
+    /** Mask of one suit (13 ranks, ace in bit 0). */
+    public static final long SUIT_MASK = (1L << NUM_RANKS) - 1;
+    /** Mask with all 52 cards set. */
+    public static final long FULL_MASK = (1L << NUM_CARDS) - 1;
+
+    // private references
+    private long cardMask = 0L;
+
+    // --------------------- Constructors --------------------------------
+
+    /** Default constructor - creates an empty set. */
+    public PlayingCardSet()
+    {
+        // empty constructor
+    }
+
+    /**
+     * Constructor to create a set from a card mask.
+     * @param mask Card mask (bits above the 52 cards are ignored).
+    */
+    public PlayingCardSet(long mask)
+    {
+        cardMask = mask & FULL_MASK;
+    }
+
+    /**
+     * Constructor to create a set containing the playing cards in a card hand.
+     * @param hand CardHand to get the cards from.
+    */
+    public PlayingCardSet(CardHand hand)
+    {
+        addAll(hand);
+    }
+
+    // ------------------ Public Static Methods --------------------------
+
+    /**
+     * Method used to return the bit index of a card value.
+     * @param ce CardEnum of the card.
+     * @return Bit index (0 - 51) or -1 if not one of the 52 playing cards (or
+     * not a PlayingCardEnum).
+    */
+    public static int bitIndex(CardEnum ce)
+    {
+        if (!(ce instanceof PlayingCardEnum)) return -1;
+
+        int idx = ce.getValue() - 1;
+
+        return ((idx >= 0) && (idx < NUM_CARDS)) ? idx : -1;
+    }
+
+    /**
+     * Method used to return the mask bit of a card value.
+     * @param ce CardEnum of the card.
+     * @return Mask with the card bit set, 0 if not one of the 52 playing cards
+     * (or not a PlayingCardEnum).
+    */
+    public static long bitOf(CardEnum ce)
+    {
+        int idx = bitIndex(ce);
+
+        return (idx < 0) ? 0L : (1L << idx);
+    }
+
+    /**
+     * Method used to return the card value of a bit index.
+     * @param idx Bit index (0 - 51).
+     * @return CardEnum of the card at the bit index.
+    */
+    public static CardEnum cardAtBit(int idx)
+    {
+        return PlayingCardDeck.PC_DECK[idx];
+    }
+
+    /**
+     * Method used to return the ranks held in one suit of a card mask.
+     * @param mask Card mask.
+     * @param iSuit PlayingCard.JPC_CLUBS .. PlayingCard.JPC_SPADES.
+     * @return 13 bit rank mask (ace in bit 0, king in bit 12).
+    */
+    public static int suitMask(long mask, int iSuit)
+    {
+        return (int) ((mask >>> (iSuit * NUM_RANKS)) & SUIT_MASK);
+    }
+
+    /**
+     * Method used to return the ranks held in any suit of a card mask.
+     * @param mask Card mask.
+     * @return 13 bit rank mask (ace in bit 0, king in bit 12).
+    */
+    public static int rankMask(long mask)
+    {
+        return suitMask(mask, PlayingCard.JPC_CLUBS) | suitMask(mask, PlayingCard.JPC_DIAMONDS) |
+               suitMask(mask, PlayingCard.JPC_HEARTS) | suitMask(mask, PlayingCard.JPC_SPADES);
+    }
+
+    // ------------------ Public Methods --------------------------------
+
+    /**
+     * Method used to add a card to the set.
+     * @param ce CardEnum of the card to add.
+     * @return True if the card was added, false if already in the set or not
+     * one of the 52 playing cards.
+    */
+    public boolean add(CardEnum ce)
+    {
+        long bit = bitOf(ce);
+        boolean bRet = (bit != 0L) && ((cardMask & bit) == 0L);
+
+        cardMask |= bit;
+
+        return bRet;
+    }
+
+    /**
+     * Method used to add a card to the set.
+     * @param card Card to add.
+     * @return True if the card was added, false if already in the set or not
+     * one of the 52 playing cards.
+    */
+    public boolean add(Card card)
+    {
+        return (card != null) && add(card.getCardValue());
+    }
+
+    /**
+     * Method used to add all of the cards in a card hand to the set.
+     * @param hand CardHand containing the cards to add.
+    */
+    public void addAll(CardHand hand)
+    {
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) cardMask |= bitOf(c.getCardValue());
+        }
+    }
+
+    /**
+     * Method used to remove a card from the set.
+     * @param ce CardEnum of the card to remove.
+     * @return True if the card was in the set (and removed), else false.
+    */
+    public boolean remove(CardEnum ce)
+    {
+        long bit = bitOf(ce);
+        boolean bRet = (cardMask & bit) != 0L;
+
+        cardMask &= ~bit;
+
+        return bRet;
+    }
+
+    /**
+     * Method used to remove a card from the set.
+     * @param card Card to remove.
+     * @return True if the card was in the set (and removed), else false.
+    */
+    public boolean remove(Card card)
+    {
+        return (card != null) && remove(card.getCardValue());
+    }
+
+    /** Method used to remove all of the cards from the set. */
+    public void removeAll()
+    {
+        cardMask = 0L;
+    }
+
+    /**
+     * Method used to determine if a card is in the set.
+     * @param ce CardEnum of the card to look for.
+     * @return True if the card is in the set, else false.
+    */
+    public boolean contains(CardEnum ce)
+    {
+        return (cardMask & bitOf(ce)) != 0L;
+    }
+
+    /**
+     * Method used to determine if a card is in the set.
+     * @param card Card to look for.
+     * @return True if the card is in the set, else false.
+    */
+    public boolean contains(Card card)
+    {
+        return (card != null) && contains(card.getCardValue());
+    }
+
+    /**
+     * Method used to return the number of cards in the set.
+     * @return Number of cards in the set.
+    */
+    public int getCardCount()
+    {
+        return Long.bitCount(cardMask);
+    }
+
+    /**
+     * Method used to determine if the set is empty.
+     * @return True if no cards in the set.
+    */
+    public boolean isEmpty()
+    {
+        return cardMask == 0L;
+    }
+
+    /**
+     * Method used to return the card mask of the set.
+     * @return Card mask (bit (card value - 1) set for each card in the set).
+    */
+    public long getMask()
+    {
+        return cardMask;
+    }
+
+    /**
+     * Method used to set the card mask of the set.
+     * @param mask Card mask (bits above the 52 cards are ignored).
+    */
+    public void setMask(long mask)
+    {
+        cardMask = mask & FULL_MASK;
+    }
+
+    /**
+     * Method used to return the ranks held in one suit.
+     * @param iSuit PlayingCard.JPC_CLUBS .. PlayingCard.JPC_SPADES.
+     * @return 13 bit rank mask (ace in bit 0, king in bit 12).
+    */
+    public int getSuitMask(int iSuit)
+    {
+        return suitMask(cardMask, iSuit);
+    }
+
+    /**
+     * Method used to return the number of cards held in one suit.
+     * @param iSuit PlayingCard.JPC_CLUBS .. PlayingCard.JPC_SPADES.
+     * @return Number of cards in the suit.
+    */
+    public int getSuitCount(int iSuit)
+    {
+        return Integer.bitCount(suitMask(cardMask, iSuit));
+    }
+
+    /**
+     * Method used to add all of the cards of another set to this set (union).
+     * @param set PlayingCardSet to add.
+    */
+    public void union(PlayingCardSet set)
+    {
+        cardMask |= set.cardMask;
+    }
+
+    /**
+     * Method used to keep only the cards also in another set (intersection).
+     * @param set PlayingCardSet to intersect with.
+    */
+    public void intersect(PlayingCardSet set)
+    {
+        cardMask &= set.cardMask;
+    }
+
+    /**
+     * Method used to remove all of the cards in another set from this set.
+     * @param set PlayingCardSet containing the cards to remove.
+    */
+    public void subtract(PlayingCardSet set)
+    {
+        cardMask &= ~set.cardMask;
+    }
+
+    /**
+     * Method used to create a card hand containing the cards in the set.  The
+     * hand is created to hold exactly the number of cards in the set (at least
+     * one).  Cards are created using the PlayingCard factory.
+     * @param bSorted True to create a sorted hand, false for unsorted.
+     * @return CardHand containing the cards in the set.
+    */
+    public CardHand toCardHand(boolean bSorted)
+    {
+        CardHand hand = new CardHand(getCardCount(), bSorted);
+        long mask = cardMask;
+
+        while (mask != 0L) {
+            int idx = Long.numberOfTrailingZeros(mask);
+            hand.add(PlayingCard.FACTORY.createCard(cardAtBit(idx)));
+            mask &= mask - 1;
+        }
+
+        return hand;
+    }
+
+    // -------------- over-rode methods ----------------------------
+
+    /**
+     * Method used to return a hashcode value of a specific instance to
+     * the caller.
+     * @return An int containing the hashcode of the set.
+    */
+    public int hashCode()
+    {
+        return Long.hashCode(cardMask);
+    }
+
+    /**
+     * Method used to determine if this set contains the same cards as another.
+     * @param obj Object to compare to see if equal or not.
+     * @return A boolean value set to true if equal, otherwise false.
+    */
+    public boolean equals(Object obj)
+    {
+        return (obj instanceof PlayingCardSet) && (((PlayingCardSet) obj).cardMask == cardMask);
+    }
+
+    /**
+     * Method used to return the class instance as a string value (names of
+     * the cards in the set).
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        StringBuffer sbRet = new StringBuffer(200);
+        long mask = cardMask;
+
+        sbRet.append("PlayingCardSet: [");
+        while (mask != 0L) {
+            int idx = Long.numberOfTrailingZeros(mask);
+            sbRet.append(cardAtBit(idx).toString());
+            mask &= mask - 1;
+            if (mask != 0L) sbRet.append(", ");
+        }
+        sbRet.append("]");
+
+        return sbRet.toString();
+    }
+}
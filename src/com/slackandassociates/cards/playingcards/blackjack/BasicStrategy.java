@@ -0,0 +1,109 @@
+package com.slackandassociates.cards.playingcards.blackjack;
+
+/**
+ * Class implements the (multi-deck) blackjack basic strategy.  The strategy
+ * tables are picked from the rules given (dealer hits or stands on soft 17,
+ * double after split) when the strategy is created.  Decisions are table lookups
+ * by hand total (hard, soft or pair) and dealer up card, no card counting. <br>
+ * Table codes are H (hit), S (stand), D (double, else hit), X (double, else
+ * stand), P (split) and R (surrender). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see BlackjackStrategy
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class BasicStrategy implements BlackjackStrategy
+{
+    // private statics (columns are dealer up cards 2 - 10, ace)
+    private static final int MAX_TOTAL = 21;
+    private static final String ALL_HIT = "HHHHHHHHHH";
+    private static final String ALL_STAND = "SSSSSSSSSS";
+    private static final String NONE = "----------";
+    /** Hard totals 9 - 16 (8 and under hit, 17 and up stand). */
+    private static final String[] HARD_ROWS = {"HDDDDHHHHH", "DDDDDDDDHH", "DDDDDDDDDH", "HHSSSHHHHH",
+                                               "SSSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH"};
+    /** Soft totals 13 - 20 (soft 12 hits, soft 21 stands). */
+    private static final String[] SOFT_ROWS = {"HHHDDHHHHH", "HHHDDHHHHH", "HHDDDHHHHH", "HHDDDHHHHH",
+                                               "HDDDDHHHHH", "SXXXXSSHHH", ALL_STAND, ALL_STAND};
+    /** Pairs of aces - tens, double after split allowed. */
+    private static final String[] PAIR_DAS_ROWS = {"PPPPPPPPPP", "PPPPPPHHHH", "PPPPPPHHHH", "HHHPPHHHHH", NONE,
+                                                   "PPPPPHHHHH", "PPPPPPHHHH", "PPPPPPPPPP", "PPPPPSPPSS", NONE};
+    /** Pairs of aces - tens, no double after split. */
+    private static final String[] PAIR_ROWS = {"PPPPPPPPPP", "--PPPP----", "--PPPP----", NONE, NONE,
+                                               "-PPPP-----", "PPPPPP----", "PPPPPPPPPP", "PPPPPSPPSS", NONE};
+
+    // private references (indexed by total or pair value, then dealer column)
+    private char[][] hard = new char[MAX_TOTAL + 1][];
+    private char[][] soft = new char[MAX_TOTAL + 1][];
+    private char[][] pairs = new char[11][];
+    private char[][] surrender = new char[MAX_TOTAL + 1][];
+
+    // --------------------------- Constructors -------------------------------
+
+    /** Default constructor - creates the strategy for the default rules. */
+    public BasicStrategy()
+    {
+        this(new BlackjackRules());
+    }
+
+    /**
+     * Constructor to create the strategy for a set of rules.
+     * @param rules BlackjackRules of the game played.
+    */
+    public BasicStrategy(BlackjackRules rules)
+    {
+        boolean bH17 = rules.isHitSoft17();
+        String[] pairRows = rules.isDoubleAfterSplit() ? PAIR_DAS_ROWS : PAIR_ROWS;
+
+        for (int i = 0; i <= MAX_TOTAL; i++) {
+            hard[i] = ((i <= 8) ? ALL_HIT : (i >= 17) ? ALL_STAND : HARD_ROWS[i - 9]).toCharArray();
+            soft[i] = ((i <= 12) ? ALL_HIT : (i >= 21) ? ALL_STAND : SOFT_ROWS[i - 13]).toCharArray();
+            surrender[i] = NONE.toCharArray();
+        }
+        for (int i = 1; i <= 10; i++) pairs[i] = pairRows[i - 1].toCharArray();
+        pairs[0] = NONE.toCharArray();
+
+        surrender[15] = (bH17 ? "--------RR" : "--------R-").toCharArray();
+        surrender[16] = "-------RRR".toCharArray();
+        if (bH17) {
+            surrender[17] = "---------R".toCharArray();
+            hard[11] = "DDDDDDDDDD".toCharArray();
+            soft[18] = "XXXXXSSHHH".toCharArray();
+            soft[19] = "SSSSXSSSSS".toCharArray();
+        }
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to decide the action to take with a hand.
+     * @param hand BlackjackHand being played.
+     * @param iDealerUp Value of the dealer up card (1 for an ace, 2 - 10).
+     * @param iAllowed Mask of the ALLOW_xxx bits of the actions allowed.
+     * @return One of the ACT_xxx actions.
+    */
+    public int getAction(BlackjackHand hand, int iDealerUp, int iAllowed)
+    {
+        int iCol = (iDealerUp == 1) ? 9 : iDealerUp - 2;
+        int iTotal = hand.getTotal();
+        boolean bSoft = hand.isSoft();
+        boolean bCanDouble = (iAllowed & ALLOW_DOUBLE) != 0;
+
+        if (((iAllowed & ALLOW_SPLIT) != 0) && hand.isPair() && (pairs[hand.getFirstValue()][iCol] == 'P'))
+            return ACT_SPLIT;
+        if (((iAllowed & ALLOW_SURRENDER) != 0) && !bSoft && (surrender[iTotal][iCol] == 'R'))
+            return ACT_SURRENDER;
+
+        switch (bSoft ? soft[iTotal][iCol] : hard[iTotal][iCol]) {
+            case 'S': return ACT_STAND;
+            case 'D': return bCanDouble ? ACT_DOUBLE : ACT_HIT;
+            case 'X': return bCanDouble ? ACT_DOUBLE : ACT_STAND;
+            default: return ACT_HIT;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.slackandassociates.cards.playingcards.blackjack;
+
+/**
+ * Class holds a blackjack hand as the values needed to play it (hard total,
+ * number of aces, card count, first two card values) instead of the cards, so
+ * hands can be reused round after round without creating objects.  Card values
+ * are the blackjack values of the cards (ace is 1, face cards are 10).  Hands are
+ * changed only by the simulator, strategies read them. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see BlackjackStrategy
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class BlackjackHand
+{
+    // private references
+    private int iHardTotal = 0;
+    private int iAces = 0;
+    private int iCards = 0;
+    private int iFirst = 0;
+    private int iSecond = 0;
+    private boolean bSplit = false;
+    private boolean bDoubled = false;
+    private boolean bSurrendered = false;
+
+    // --------------------------- Constructors -------------------------------
+
+    /** Default constructor - creates an empty hand. */
+    public BlackjackHand()
+    {
+        // empty constructor
+    }
+
+    // ---------------------------- Package Methods ---------------------------
+
+    void reset()
+    {
+        iHardTotal = iAces = iCards = iFirst = iSecond = 0;
+        bSplit = bDoubled = bSurrendered = false;
+    }
+
+    void add(int iValue)
+    {
+        iHardTotal += iValue;
+        if (iValue == 1) iAces++;
+        if (iCards == 0) iFirst = iValue;
+        else if (iCards == 1) iSecond = iValue;
+        iCards++;
+    }
+
+    void split(int iValue)
+    {
+        reset();
+        add(iValue);
+        bSplit = true;
+    }
+
+    void doubleDown()
+    {
+        bDoubled = true;
+    }
+
+    void surrender()
+    {
+        bSurrendered = true;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the total of the hand (an ace counted as 11 if
+     * the hand does not bust).
+     * @return Hand total.
+    */
+    public int getTotal()
+    {
+        return ((iAces > 0) && (iHardTotal <= 11)) ? iHardTotal + 10 : iHardTotal;
+    }
+
+    /**
+     * Method used to return if the hand is soft (an ace counted as 11).
+     * @return True if the hand is soft.
+    */
+    public boolean isSoft()
+    {
+        return (iAces > 0) && (iHardTotal <= 11);
+    }
+
+    /**
+     * Method used to return if the hand is a blackjack (21 with the first
+     * two cards, not after a split).
+     * @return True if a blackjack.
+    */
+    public boolean isBlackjack()
+    {
+        return (iCards == 2) && !bSplit && (iHardTotal == 11) && (iAces > 0);
+    }
+
+    /**
+     * Method used to return if the hand is over 21.
+     * @return True if busted.
+    */
+    public boolean isBusted()
+    {
+        return iHardTotal > 21;
+    }
+
+    /**
+     * Method used to return if the hand is two cards of the same value (ten,
+     * jack, queen and king are all tens).
+     * @return True if a pair.
+    */
+    public boolean isPair()
+    {
+        return (iCards == 2) && (iFirst == iSecond);
+    }
+
+    /**
+     * Method used to return the value of the first card in the hand.
+     * @return Value of the first card (1 - 10), 0 if no cards.
+    */
+    public int getFirstValue()
+    {
+        return iFirst;
+    }
+
+    /**
+     * Method used to return the number of cards in the hand.
+     * @return Number of cards.
+    */
+    public int getCardCount()
+    {
+        return iCards;
+    }
+
+    /**
+     * Method used to return if the hand came from a split.
+     * @return True if a split hand.
+    */
+    public boolean isSplit()
+    {
+        return bSplit;
+    }
+
+    /**
+     * Method used to return if the hand was doubled down.
+     * @return True if doubled.
+    */
+    public boolean isDoubled()
+    {
+        return bDoubled;
+    }
+
+    /**
+     * Method used to return if the hand was surrendered.
+     * @return True if surrendered.
+    */
+    public boolean isSurrendered()
+    {
+        return bSurrendered;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "BlackjackHand: (total: " + getTotal() + (isSoft() ? " soft" : "") +
+               ", cards: " + iCards + ", split: " + bSplit + ", doubled: " + bDoubled + ")";
+    }
+}
@@ -0,0 +1,229 @@
+package com.slackandassociates.cards.playingcards.blackjack;
+
+import com.slackandassociates.cards.*;
+
+/**
+ * Class holds the table rules and shoe setup of a blackjack game.  Defaults to
+ * a six deck shoe dealt to 75% penetration with one burn card, dealer stands on
+ * soft 17, blackjack pays 3 to 2, double any two cards (after splits too), split
+ * up to four hands (split aces get one card each) and no surrender.  The dealer
+ * always checks for blackjack (only the original bet is lost to a dealer
+ * blackjack). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see BlackjackSimulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class BlackjackRules
+{
+    // public statics
+    /** Default number of decks in the shoe. */
+    public static final int DEF_NUM_DECKS = 6;
+    /** Default blackjack payout (3 to 2). */
+    public static final double DEF_BLACKJACK_PAYOUT = 1.5;
+    /** Default maximum number of hands after splitting. */
+    public static final int DEF_MAX_HANDS = 4;
+
+    // private references
+    private int iNumDecks = DEF_NUM_DECKS;
+    private double dPenetration = CardShoe.DEF_PENETRATION;
+    private int iBurnCards = CardShoe.DEF_BURN_CARDS;
+    private boolean bContinuous = false;
+    private boolean bHitSoft17 = false;
+    private double dBlackjackPayout = DEF_BLACKJACK_PAYOUT;
+    private boolean bDoubleAfterSplit = true;
+    private int iMaxHands = DEF_MAX_HANDS;
+    private boolean bLateSurrender = false;
+
+    // --------------------------- Constructors -------------------------------
+
+    /** Default constructor - creates the default rules. */
+    public BlackjackRules()
+    {
+        // empty constructor
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to set the number of decks in the shoe.
+     * @param iDecks Number of decks (1 or more).
+    */
+    public void setNumDecks(int iDecks)
+    {
+        iNumDecks = Math.max(CardDeck.JC_ONE_DECK, iDecks);
+    }
+
+    /**
+     * Method used to return the number of decks in the shoe.
+     * @return Number of decks.
+    */
+    public int getNumDecks()
+    {
+        return iNumDecks;
+    }
+
+    /**
+     * Method used to set the penetration of the shoe.
+     * @param dPen Fraction (0 - 1) of the cards dealt before the cut card.
+    */
+    public void setPenetration(double dPen)
+    {
+        dPenetration = Math.min(1.0, Math.max(0.0, dPen));
+    }
+
+    /**
+     * Method used to return the penetration of the shoe.
+     * @return Fraction of the cards dealt before the cut card.
+    */
+    public double getPenetration()
+    {
+        return dPenetration;
+    }
+
+    /**
+     * Method used to set the number of cards burned after each shuffle.
+     * @param iBurn Number of burn cards (0 or more).
+    */
+    public void setBurnCards(int iBurn)
+    {
+        iBurnCards = Math.max(0, iBurn);
+    }
+
+    /**
+     * Method used to return the number of cards burned after each shuffle.
+     * @return Number of burn cards.
+    */
+    public int getBurnCards()
+    {
+        return iBurnCards;
+    }
+
+    /**
+     * Method used to set if the cards are dealt from a continuous shuffling
+     * machine (penetration and burn cards not used).
+     * @param bCSM True for a continuous shuffler, false for a shoe.
+    */
+    public void setContinuousShuffle(boolean bCSM)
+    {
+        bContinuous = bCSM;
+    }
+
+    /**
+     * Method used to return if the cards are dealt from a continuous shuffler.
+     * @return True if a continuous shuffler is used.
+    */
+    public boolean isContinuousShuffle()
+    {
+        return bContinuous;
+    }
+
+    /**
+     * Method used to set if the dealer hits a soft 17.
+     * @param bH17 True if the dealer hits soft 17, false to stand.
+    */
+    public void setHitSoft17(boolean bH17)
+    {
+        bHitSoft17 = bH17;
+    }
+
+    /**
+     * Method used to return if the dealer hits a soft 17.
+     * @return True if the dealer hits soft 17.
+    */
+    public boolean isHitSoft17()
+    {
+        return bHitSoft17;
+    }
+
+    /**
+     * Method used to set the blackjack payout.
+     * @param dPayout Amount won (per unit bet) with a blackjack (1.5 for 3 to 2,
+     * 1.2 for 6 to 5).
+    */
+    public void setBlackjackPayout(double dPayout)
+    {
+        dBlackjackPayout = dPayout;
+    }
+
+    /**
+     * Method used to return the blackjack payout.
+     * @return Amount won (per unit bet) with a blackjack.
+    */
+    public double getBlackjackPayout()
+    {
+        return dBlackjackPayout;
+    }
+
+    /**
+     * Method used to set if doubling down is allowed after a split.
+     * @param bDAS True to allow doubling after a split.
+    */
+    public void setDoubleAfterSplit(boolean bDAS)
+    {
+        bDoubleAfterSplit = bDAS;
+    }
+
+    /**
+     * Method used to return if doubling down is allowed after a split.
+     * @return True if doubling after a split is allowed.
+    */
+    public boolean isDoubleAfterSplit()
+    {
+        return bDoubleAfterSplit;
+    }
+
+    /**
+     * Method used to set the maximum number of hands a player can split to.
+     * @param iHands Maximum number of hands (1 for no splitting).
+    */
+    public void setMaxHands(int iHands)
+    {
+        iMaxHands = Math.max(1, iHands);
+    }
+
+    /**
+     * Method used to return the maximum number of hands a player can split to.
+     * @return Maximum number of hands.
+    */
+    public int getMaxHands()
+    {
+        return iMaxHands;
+    }
+
+    /**
+     * Method used to set if late surrender (after the dealer checks for
+     * blackjack) is allowed.
+     * @param bSurrender True to allow late surrender.
+    */
+    public void setLateSurrender(boolean bSurrender)
+    {
+        bLateSurrender = bSurrender;
+    }
+
+    /**
+     * Method used to return if late surrender is allowed.
+     * @return True if late surrender is allowed.
+    */
+    public boolean isLateSurrender()
+    {
+        return bLateSurrender;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "BlackjackRules: (decks: " + iNumDecks + ", penetration: " + dPenetration +
+               ", burn: " + iBurnCards + ", CSM: " + bContinuous + ", H17: " + bHitSoft17 +
+               ", blackjack pays: " + dBlackjackPayout + ", DAS: " + bDoubleAfterSplit +
+               ", max hands: " + iMaxHands + ", surrender: " + bLateSurrender + ")";
+    }
+}
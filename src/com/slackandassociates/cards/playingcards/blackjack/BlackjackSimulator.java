@@ -0,0 +1,297 @@
+package com.slackandassociates.cards.playingcards.blackjack;
+
+import java.util.concurrent.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+import com.slackandassociates.cards.simulation.*;
+
+/**
+ * Class simulates one player playing blackjack heads up against the dealer
+ * with a given strategy, one unit bet each round.  Runs on the MonteCarloEngine,
+ * each deal of the engine plays a whole shoe (rounds until the cut card comes
+ * out) or, with a continuous shuffler, getRoundsPerDeal() rounds.  The result of
+ * each round (units won or lost, doubles and splits included) is recorded into a
+ * RunningStats, so the mean is the expected value per round and the variance is
+ * the variance per round. <br>
+ * Cards are dealt from a CardShoe (using a FlyweightCardFactory) and played as
+ * blackjack values, so rounds are played without creating objects. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see BlackjackRules
+ * @see BlackjackStrategy
+ * @see CardShoe
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class BlackjackSimulator implements DealSimulation
+{
+    // public statics
+    /** Default number of rounds in each deal (continuous shuffler only). */
+    public static final int DEF_ROUNDS_PER_DEAL = 100;
+    /** Default number of deals (shoes) run by each simulation task. */
+    public static final long DEF_DEALS_PER_TASK = 64L;
+
+    // private statics
+    private static final int DEALER_STANDS = 17;
+    private static final double SURRENDER_LOSS = -0.5;
+
+    // private references
+    private BlackjackRules rules;
+    private BlackjackStrategy strategy;
+    private MonteCarloEngine engine;
+    private int iRoundsPerDeal = DEF_ROUNDS_PER_DEAL;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a simulator playing basic strategy.
+     * @param bjRules BlackjackRules of the game.
+    */
+    public BlackjackSimulator(BlackjackRules bjRules)
+    {
+        this(bjRules, new BasicStrategy(bjRules));
+    }
+
+    /**
+     * Constructor to create a simulator.  The number of decks is read when
+     * the simulator is created, the other rules as the rounds are played.
+     * @param bjRules BlackjackRules of the game.
+     * @param strat BlackjackStrategy the player uses.
+    */
+    public BlackjackSimulator(BlackjackRules bjRules, BlackjackStrategy strat)
+    {
+        rules = bjRules;
+        strategy = strat;
+        engine = new MonteCarloEngine(rules.getNumDecks(), PlayingCardDeck.PC_DECK,
+                                      new FlyweightCardFactory(PlayingCard.class), null);
+        engine.setDealsPerTask(DEF_DEALS_PER_TASK);
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static int draw(CardShoe shoe)
+    {
+        Card c = shoe.deal();
+
+        shoe.discard(c);  // cards go to the rack as dealt, the rack is not read during a round
+
+        return PlayingCard.cardPointValueFace10(c.getCardValue().getValue());
+    }
+
+    private int allowedActions(BlackjackHand hand, int iHands)
+    {
+        int iRet = 0;
+
+        if (hand.getCardCount() != 2) return iRet;
+        if (!hand.isSplit() || rules.isDoubleAfterSplit()) iRet |= BlackjackStrategy.ALLOW_DOUBLE;
+        if (hand.isPair() && (iHands < rules.getMaxHands())) iRet |= BlackjackStrategy.ALLOW_SPLIT;
+        if (!hand.isSplit() && rules.isLateSurrender()) iRet |= BlackjackStrategy.ALLOW_SURRENDER;
+
+        return iRet;
+    }
+
+    private int playHand(CardShoe shoe, BlackjackHand[] hands, int idx, int iHands, int iUp)
+    {
+        BlackjackHand hand = hands[idx];
+
+        if (hand.getCardCount() == 1) hand.add(draw(shoe));  // second card of a split hand
+        if (hand.isSplit() && (hand.getFirstValue() == 1)) return iHands;  // split aces get one card
+
+        while (hand.getTotal() < 21) {
+            int iAllowed = allowedActions(hand, iHands);
+            int iAct = strategy.getAction(hand, iUp, iAllowed);
+
+            if ((iAct > BlackjackStrategy.ACT_STAND) && ((iAllowed & (1 << iAct)) == 0))
+                throw new IllegalStateException("Strategy action not allowed: " + iAct);
+
+            if (iAct == BlackjackStrategy.ACT_STAND) {
+                break;
+            }
+            else if (iAct == BlackjackStrategy.ACT_DOUBLE) {
+                hand.doubleDown();
+                hand.add(draw(shoe));
+                break;
+            }
+            else if (iAct == BlackjackStrategy.ACT_SURRENDER) {
+                hand.surrender();
+                break;
+            }
+            else if (iAct == BlackjackStrategy.ACT_SPLIT) {
+                int iValue = hand.getFirstValue();
+
+                hands[iHands++].split(iValue);
+                hand.split(iValue);
+                hand.add(draw(shoe));
+                if (iValue == 1) break;
+            }
+            else {
+                hand.add(draw(shoe));
+            }
+        }
+
+        return iHands;
+    }
+
+    private double playRound(CardShoe shoe, BlackjackHand[] hands, BlackjackHand dealer)
+    {
+        BlackjackHand player = hands[0];
+        int iUp, iHands = 1;
+        boolean bLive = false;
+        double dRet = 0.0;
+
+        shoe.beginRound();
+        player.reset();
+        dealer.reset();
+        player.add(draw(shoe));
+        iUp = draw(shoe);
+        dealer.add(iUp);
+        player.add(draw(shoe));
+        dealer.add(draw(shoe));
+
+        // dealer checks for blackjack before the player acts
+        if (dealer.isBlackjack()) return player.isBlackjack() ? 0.0 : -1.0;
+        if (player.isBlackjack()) return rules.getBlackjackPayout();
+
+        for (int i = 0; i < iHands; i++) {
+            iHands = playHand(shoe, hands, i, iHands, iUp);
+            bLive |= !hands[i].isBusted() && !hands[i].isSurrendered();
+        }
+
+        if (bLive) {
+            int iTotal = dealer.getTotal();
+
+            while ((iTotal < DEALER_STANDS) || ((iTotal == DEALER_STANDS) && dealer.isSoft() && rules.isHitSoft17())) {
+                dealer.add(draw(shoe));
+                iTotal = dealer.getTotal();
+            }
+        }
+
+        for (int i = 0; i < iHands; i++) {
+            BlackjackHand hand = hands[i];
+            double dBet = hand.isDoubled() ? 2.0 : 1.0;
+
+            if (hand.isSurrendered())
+                dRet += SURRENDER_LOSS;
+            else if (hand.isBusted())
+                dRet -= dBet;
+            else if (dealer.isBusted() || (hand.getTotal() > dealer.getTotal()))
+                dRet += dBet;
+            else if (hand.getTotal() < dealer.getTotal())
+                dRet -= dBet;
+        }
+
+        return dRet;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to create the accumulator of a simulation worker.
+     * @return RunningStats the round results are recorded into.
+    */
+    public DealAccumulator createAccumulator()
+    {
+        return new RunningStats();
+    }
+
+    /**
+     * Method used to play one deal, a shoe (until the cut card comes out) or
+     * getRoundsPerDeal() rounds from a continuous shuffler.
+     * @param deck CardDeck (shuffled) holding the cards of the shoe.
+     * @param acc RunningStats to record the round results into.
+    */
+    public void evaluate(CardDeck deck, DealAccumulator acc)
+    {
+        RunningStats stats = (RunningStats) acc;
+        CardShoe shoe = new CardShoe(deck, rules.getPenetration(), rules.getBurnCards(), rules.isContinuousShuffle());
+        BlackjackHand[] hands = new BlackjackHand[rules.getMaxHands()];
+        BlackjackHand dealer = new BlackjackHand();
+
+        for (int i = 0; i < hands.length; i++) hands[i] = new BlackjackHand();
+
+        if (shoe.isContinuous()) {
+            for (int i = 0; i < iRoundsPerDeal; i++) stats.add(playRound(shoe, hands, dealer));
+        }
+        else {
+            do {
+                stats.add(playRound(shoe, hands, dealer));
+            } while (!shoe.isCutCardReached());
+        }
+    }
+
+    /**
+     * Method used to run the simulation on the common fork/join pool.
+     * @param lNumDeals Number of deals (shoes, or rounds per deal batches with
+     * a continuous shuffler) to play.
+     * @return RunningStats of the round results (count is the rounds played,
+     * mean the expected value and variance the variance of a round).
+    */
+    public RunningStats run(long lNumDeals)
+    {
+        return (RunningStats) engine.run(this, lNumDeals);
+    }
+
+    /**
+     * Method used to run the simulation on the given fork/join pool.
+     * @param lNumDeals Number of deals (shoes, or rounds per deal batches with
+     * a continuous shuffler) to play.
+     * @param pool ForkJoinPool to run the simulation in.
+     * @return RunningStats of the round results.
+    */
+    public RunningStats run(long lNumDeals, ForkJoinPool pool)
+    {
+        return (RunningStats) engine.run(this, lNumDeals, pool);
+    }
+
+    /**
+     * Method used to set the number of rounds played in each deal when a
+     * continuous shuffler is used.
+     * @param iRounds Number of rounds (1 or more).
+    */
+    public void setRoundsPerDeal(int iRounds)
+    {
+        iRoundsPerDeal = Math.max(1, iRounds);
+    }
+
+    /**
+     * Method used to return the number of rounds played in each deal when a
+     * continuous shuffler is used.
+     * @return Number of rounds.
+    */
+    public int getRoundsPerDeal()
+    {
+        return iRoundsPerDeal;
+    }
+
+    /**
+     * Method used to return the engine running the simulation (to set the
+     * seed, deals per task, etc.).
+     * @return MonteCarloEngine of the simulator.
+    */
+    public MonteCarloEngine getEngine()
+    {
+        return engine;
+    }
+
+    /**
+     * Method used to return the rules of the game simulated.
+     * @return BlackjackRules of the game.
+    */
+    public BlackjackRules getRules()
+    {
+        return rules;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "BlackjackSimulator: (" + rules + ", strategy: " + strategy.getClass().getName() + ")";
+    }
+}
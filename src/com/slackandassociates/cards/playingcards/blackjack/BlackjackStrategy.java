@@ -0,0 +1,49 @@
+package com.slackandassociates.cards.playingcards.blackjack;
+
+/**
+ * Interface defining a blackjack playing strategy used by the simulator.  The
+ * strategy is asked for an action each time a player hand has to be played and
+ * must return one of the actions allowed (ACT_HIT and ACT_STAND are always
+ * allowed).  Strategies are called from several simulation threads at once, so
+ * should not keep state between calls (or keep it per thread). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see BasicStrategy
+ * @see BlackjackSimulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public interface BlackjackStrategy
+{
+    /** Action - take another card. */
+    public static final int ACT_HIT = 0;
+    /** Action - stand on the hand. */
+    public static final int ACT_STAND = 1;
+    /** Action - double the bet and take one card. */
+    public static final int ACT_DOUBLE = 2;
+    /** Action - split the pair into two hands. */
+    public static final int ACT_SPLIT = 3;
+    /** Action - surrender the hand (lose half the bet). */
+    public static final int ACT_SURRENDER = 4;
+
+    /** Allowed action mask bit of ACT_DOUBLE. */
+    public static final int ALLOW_DOUBLE = 1 << ACT_DOUBLE;
+    /** Allowed action mask bit of ACT_SPLIT. */
+    public static final int ALLOW_SPLIT = 1 << ACT_SPLIT;
+    /** Allowed action mask bit of ACT_SURRENDER. */
+    public static final int ALLOW_SURRENDER = 1 << ACT_SURRENDER;
+
+    /**
+     * Method used to decide the action to take with a hand.
+     * @param hand BlackjackHand being played.
+     * @param iDealerUp Value of the dealer up card (1 for an ace, 2 - 10).
+     * @param iAllowed Mask of the ALLOW_xxx bits of the actions allowed (besides
+     * hit and stand).
+     * @return One of the ACT_xxx actions.
+    */
+    public int getAction(BlackjackHand hand, int iDealerUp, int iAllowed);
+}
@@ -0,0 +1,220 @@
+package com.slackandassociates.cards.playingcards.pinochle;
+
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * Class defines the pinochle card ranks (ordered 9, J, Q, K, 10, A from low to
+ * high) and the packed card counts used by the pinochle scorers.  The 24
+ * distinct pinochle cards are numbered suit * 6 + rank (suits are the
+ * PlayingCard.JPC_xxx suits) and a hand is kept as a long holding the count of
+ * each card in two bits (card n in bits 2n and 2n + 1), so the counts of a suit
+ * are 12 consecutive bits.  Counts go up to three (a single pinochle deck holds
+ * two of each card).  Cards that are not pinochle cards (2 - 8, jokers) are
+ * ignored when counting. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PinochleCardDeck
+ * @see PinochleMeld
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class PinochleCards
+{
+    // public statics (ranks in pinochle order, low to high)
+    /** Pinochle rank - nine. */
+    public static final int NINE = 0;
+    /** Pinochle rank - jack. */
+    public static final int JACK = 1;
+    /** Pinochle rank - queen. */
+    public static final int QUEEN = 2;
+    /** Pinochle rank - king. */
+    public static final int KING = 3;
+    /** Pinochle rank - ten. */
+    public static final int TEN = 4;
+    /** Pinochle rank - ace. */
+    public static final int ACE = 5;
+    /** Number of pinochle ranks in a suit. */
+    public static final int NUM_RANKS = 6;
+    /** Number of distinct pinochle cards. */
+    public static final int NUM_CARDS = NUM_RANKS * 4;
+    /** Number of count bits used by a suit. */
+    public static final int SUIT_BITS = NUM_RANKS * 2;
+    /** Maximum count of a card. */
+    public static final int MAX_COUNT = 3;
+
+    // private statics
+    /** Pinochle rank of each playing card point value (ace - king), -1 if none. */
+    private static final int[] POINT_RANKS = {-1, ACE, -1, -1, -1, -1, -1, -1, -1, NINE, TEN, JACK, QUEEN, KING};
+    /** Card index of each card value, -1 if not a pinochle card. */
+    private static final int[] CARD_INDEX = new int[64];
+    /** Card value of each card index. */
+    private static final CardEnum[] CARDS = new CardEnum[NUM_CARDS];
+
+    static {
+        for (int v = 0; v < CARD_INDEX.length; v++) {
+            int iPoint = PlayingCard.cardPointValue(v);
+            int iSuit = PlayingCard.cardSuit(v);
+
+            CARD_INDEX[v] = ((iPoint > 0) && (iSuit >= 0) && (POINT_RANKS[iPoint] >= 0)) ?
+                            (iSuit * NUM_RANKS) + POINT_RANKS[iPoint] : -1;
+        }
+        for (int i = 0; i < PinochleCardDeck.PCP_DECK.length; i++)
+            CARDS[cardIndex(PinochleCardDeck.PCP_DECK[i].getValue())] = PinochleCardDeck.PCP_DECK[i];
+    }
+
+    // --------------------------- Constructors -------------------------------
+
+    private PinochleCards()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the card index (suit * 6 + rank) of a card value.
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return Card index (0 - 23), -1 if not a pinochle card.
+    */
+    public static int cardIndex(int iValue)
+    {
+        return ((iValue >= 0) && (iValue < CARD_INDEX.length)) ? CARD_INDEX[iValue] : -1;
+    }
+
+    /**
+     * Method used to return the pinochle rank of a card value.
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return Pinochle rank (NINE .. ACE), -1 if not a pinochle card.
+    */
+    public static int rankOf(int iValue)
+    {
+        int idx = cardIndex(iValue);
+
+        return (idx < 0) ? -1 : idx % NUM_RANKS;
+    }
+
+    /**
+     * Method used to return the suit of a card value.
+     * @param iValue Card value (CardEnum.getValue()).
+     * @return Suit (PlayingCard.JPC_CLUBS .. JPC_SPADES), -1 if not a pinochle card.
+    */
+    public static int suitOf(int iValue)
+    {
+        int idx = cardIndex(iValue);
+
+        return (idx < 0) ? -1 : idx / NUM_RANKS;
+    }
+
+    /**
+     * Method used to return the card value of a card index.
+     * @param idx Card index (0 - 23).
+     * @return CardEnum of the card.
+    */
+    public static CardEnum cardAt(int idx)
+    {
+        return CARDS[idx];
+    }
+
+    /**
+     * Method used to add a card to packed card counts.
+     * @param counts Packed card counts.
+     * @param iValue Card value (CardEnum.getValue()) to add.
+     * @return Packed card counts with the card added (unchanged if not a
+     * pinochle card or the count is already at MAX_COUNT).
+    */
+    public static long addCard(long counts, int iValue)
+    {
+        int idx = cardIndex(iValue);
+
+        if ((idx < 0) || (((counts >>> (idx * 2)) & MAX_COUNT) == MAX_COUNT)) return counts;
+
+        return counts + (1L << (idx * 2));
+    }
+
+    /**
+     * Method used to return the count of a card in packed card counts.
+     * @param counts Packed card counts.
+     * @param iSuit Suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @param iRank Pinochle rank (NINE .. ACE).
+     * @return Count of the card.
+    */
+    public static int countOf(long counts, int iSuit, int iRank)
+    {
+        return (int) (counts >>> (((iSuit * NUM_RANKS) + iRank) * 2)) & MAX_COUNT;
+    }
+
+    /**
+     * Method used to return the 12 count bits of a suit in packed card counts.
+     * @param counts Packed card counts.
+     * @param iSuit Suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return Suit counts (rank r count in bits 2r and 2r + 1).
+    */
+    public static int suitCounts(long counts, int iSuit)
+    {
+        return (int) (counts >>> (iSuit * SUIT_BITS)) & ((1 << SUIT_BITS) - 1);
+    }
+
+    /**
+     * Method used to return the number of cards in packed card counts.
+     * @param counts Packed card counts.
+     * @return Number of cards counted.
+    */
+    public static int cardCount(long counts)
+    {
+        return Long.bitCount(counts & 0x555555555555L) + (2 * Long.bitCount(counts & 0xAAAAAAAAAAAAL));
+    }
+
+    /**
+     * Method used to count the cards of a card hand.
+     * @param hand CardHand holding the cards.
+     * @return Packed card counts of the hand.
+    */
+    public static long countsOf(CardHand hand)
+    {
+        long ret = 0L;
+
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) ret = addCard(ret, c.getCardValue().getValue());
+        }
+
+        return ret;
+    }
+
+    /**
+     * Method used to count the cards of a counted card hand (24 count lookups,
+     * the cards are not walked).
+     * @param hand CountedCardHand holding the cards.
+     * @return Packed card counts of the hand.
+    */
+    public static long countsOf(CountedCardHand hand)
+    {
+        long ret = 0L;
+
+        for (int idx = 0; idx < NUM_CARDS; idx++)
+            ret |= (long) Math.min(MAX_COUNT, hand.getCount(CARDS[idx])) << (idx * 2);
+
+        return ret;
+    }
+
+    /**
+     * Method used to count the cards held as card values.
+     * @param cardValues Array of card values (CardEnum.getValue()).
+     * @param iOffset Position of the first card.
+     * @param iNumCards Number of cards.
+     * @return Packed card counts of the cards.
+    */
+    public static long countsOf(int[] cardValues, int iOffset, int iNumCards)
+    {
+        long ret = 0L;
+
+        for (int i = iOffset; i < iOffset + iNumCards; i++) ret = addCard(ret, cardValues[i]);
+
+        return ret;
+    }
+}
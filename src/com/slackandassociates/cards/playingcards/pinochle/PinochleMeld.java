@@ -0,0 +1,232 @@
+package com.slackandassociates.cards.playingcards.pinochle;
+
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * Class used to score the meld of a pinochle hand (single deck values) from
+ * its packed card counts (see PinochleCards).  Meld scored:
+ * <ul>
+ * <li> Run (A, 10, K, Q, J of trump) - 15, double run 150.
+ * <li> Royal marriage (K, Q of trump, not part of a run) - 4.
+ * <li> Common marriage (K, Q of another suit) - 2.
+ * <li> Dix (9 of trump) - 1 each.
+ * <li> Aces, kings, queens, jacks around (one of each suit) - 10, 8, 6, 4,
+ * doubled (two of each suit) 100, 80, 60, 40.
+ * <li> Pinochle (Q of spades, J of diamonds) - 4, double pinochle 30.
+ * </ul>
+ * A card can be used in melds of different classes (a king in a marriage and in
+ * kings around) but not twice in the same class.  The suit melds are looked up
+ * from 4096 entry tables indexed by the suit's 12 count bits (one table for
+ * trump, one for the other suits), so a hand is scored in constant time with no
+ * card walking.  Batch methods score arrays of hands (for bidding, with the best
+ * trump found at the same cost) without creating objects. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PinochleCards
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class PinochleMeld
+{
+    // public statics (meld values)
+    /** Meld value - run in trump. */
+    public static final int RUN = 15;
+    /** Meld value - double run in trump. */
+    public static final int DOUBLE_RUN = 150;
+    /** Meld value - royal marriage. */
+    public static final int ROYAL_MARRIAGE = 4;
+    /** Meld value - common marriage. */
+    public static final int COMMON_MARRIAGE = 2;
+    /** Meld value - dix (nine of trump). */
+    public static final int DIX = 1;
+    /** Meld value - aces around. */
+    public static final int ACES_AROUND = 10;
+    /** Meld value - kings around. */
+    public static final int KINGS_AROUND = 8;
+    /** Meld value - queens around. */
+    public static final int QUEENS_AROUND = 6;
+    /** Meld value - jacks around. */
+    public static final int JACKS_AROUND = 4;
+    /** Meld value - pinochle. */
+    public static final int PINOCHLE = 4;
+    /** Meld value - double pinochle. */
+    public static final int DOUBLE_PINOCHLE = 30;
+    /** Around doubles are worth ten times the single around. */
+    public static final int DOUBLE_AROUND_FACTOR = 10;
+
+    // private statics
+    private static final int NUM_SUIT_COUNTS = 1 << PinochleCards.SUIT_BITS;
+    private static final int NUM_SUITS = 4;
+    /** Meld of a suit's counts when the suit is trump. */
+    private static final short[] TRUMP_MELD = new short[NUM_SUIT_COUNTS];
+    /** Meld of a suit's counts when the suit is not trump. */
+    private static final short[] PLAIN_MELD = new short[NUM_SUIT_COUNTS];
+    /** Card index shift of the queen of spades and jack of diamonds. */
+    private static final int QS_SHIFT = ((PlayingCard.JPC_SPADES * PinochleCards.NUM_RANKS) + PinochleCards.QUEEN) * 2;
+    private static final int JD_SHIFT = ((PlayingCard.JPC_DIAMONDS * PinochleCards.NUM_RANKS) + PinochleCards.JACK) * 2;
+
+    static {
+        for (int sc = 0; sc < NUM_SUIT_COUNTS; sc++) {
+            int iMarriages = Math.min(rankCount(sc, PinochleCards.KING), rankCount(sc, PinochleCards.QUEEN));
+            int iRuns = Math.min(iMarriages, Math.min(rankCount(sc, PinochleCards.ACE),
+                                 Math.min(rankCount(sc, PinochleCards.TEN), rankCount(sc, PinochleCards.JACK))));
+
+            PLAIN_MELD[sc] = (short) (iMarriages * COMMON_MARRIAGE);
+            TRUMP_MELD[sc] = (short) (((iRuns >= 2) ? DOUBLE_RUN + ((iRuns - 2) * RUN) : iRuns * RUN) +
+                                      ((iMarriages - iRuns) * ROYAL_MARRIAGE) +
+                                      (rankCount(sc, PinochleCards.NINE) * DIX));
+        }
+    }
+
+    // --------------------------- Constructors -------------------------------
+
+    private PinochleMeld()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static int rankCount(int iSuitCounts, int iRank)
+    {
+        return (iSuitCounts >>> (iRank * 2)) & PinochleCards.MAX_COUNT;
+    }
+
+    private static int aroundMeld(long counts, int iRank, int iValue)
+    {
+        int iMin = Math.min(Math.min(PinochleCards.countOf(counts, 0, iRank), PinochleCards.countOf(counts, 1, iRank)),
+                            Math.min(PinochleCards.countOf(counts, 2, iRank), PinochleCards.countOf(counts, 3, iRank)));
+
+        return (iMin >= 2) ? iValue * DOUBLE_AROUND_FACTOR : iMin * iValue;
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to score the meld that does not depend on the trump suit
+     * (common marriages of every suit, arounds and pinochles).
+     * @param counts Packed card counts of the hand.
+     * @return Meld points not depending on trump.
+    */
+    public static int baseMeld(long counts)
+    {
+        int iPinochles = Math.min((int) (counts >>> QS_SHIFT) & PinochleCards.MAX_COUNT,
+                                  (int) (counts >>> JD_SHIFT) & PinochleCards.MAX_COUNT);
+        int iRet = (iPinochles >= 2) ? DOUBLE_PINOCHLE : iPinochles * PINOCHLE;
+
+        for (int s = 0; s < NUM_SUITS; s++) iRet += PLAIN_MELD[PinochleCards.suitCounts(counts, s)];
+        iRet += aroundMeld(counts, PinochleCards.ACE, ACES_AROUND);
+        iRet += aroundMeld(counts, PinochleCards.KING, KINGS_AROUND);
+        iRet += aroundMeld(counts, PinochleCards.QUEEN, QUEENS_AROUND);
+        iRet += aroundMeld(counts, PinochleCards.JACK, JACKS_AROUND);
+
+        return iRet;
+    }
+
+    /**
+     * Method used to return the meld a suit adds when named trump (runs, royal
+     * marriages and dix in place of the suit's common marriages).
+     * @param counts Packed card counts of the hand.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return Meld points added by naming the suit trump.
+    */
+    public static int trumpBonus(long counts, int iTrump)
+    {
+        int sc = PinochleCards.suitCounts(counts, iTrump);
+
+        return TRUMP_MELD[sc] - PLAIN_MELD[sc];
+    }
+
+    /**
+     * Method used to score the meld of a hand.
+     * @param counts Packed card counts of the hand.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return Meld points of the hand.
+    */
+    public static int score(long counts, int iTrump)
+    {
+        return baseMeld(counts) + trumpBonus(counts, iTrump);
+    }
+
+    /**
+     * Method used to score the meld of a card hand.
+     * @param hand CardHand holding the cards.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return Meld points of the hand.
+    */
+    public static int score(CardHand hand, int iTrump)
+    {
+        return score(PinochleCards.countsOf(hand), iTrump);
+    }
+
+    /**
+     * Method used to find the trump suit giving a hand the most meld.
+     * @param counts Packed card counts of the hand.
+     * @return Best trump suit (the lowest suit if tied).
+    */
+    public static int bestTrump(long counts)
+    {
+        int iRet = 0, iBest = trumpBonus(counts, 0);
+
+        for (int s = 1; s < NUM_SUITS; s++) {
+            int iBonus = trumpBonus(counts, s);
+            if (iBonus > iBest) {
+                iBest = iBonus;
+                iRet = s;
+            }
+        }
+
+        return iRet;
+    }
+
+    /**
+     * Method used to score the meld of a hand with the best trump suit.
+     * @param counts Packed card counts of the hand.
+     * @return Meld points of the hand with the best trump.
+    */
+    public static int bestScore(long counts)
+    {
+        int iBest = trumpBonus(counts, 0);
+
+        for (int s = 1; s < NUM_SUITS; s++) iBest = Math.max(iBest, trumpBonus(counts, s));
+
+        return baseMeld(counts) + iBest;
+    }
+
+    /**
+     * Method used to score the meld of an array of hands.
+     * @param hands Array of packed card counts.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @param scores Array the meld points are stored into (same positions as the hands).
+     * @param iOffset Position of the first hand to score.
+     * @param iCount Number of hands to score.
+    */
+    public static void score(long[] hands, int iTrump, int[] scores, int iOffset, int iCount)
+    {
+        for (int i = iOffset; i < iOffset + iCount; i++) scores[i] = score(hands[i], iTrump);
+    }
+
+    /**
+     * Method used to score the meld of an array of hands with each hand's best
+     * trump suit.
+     * @param hands Array of packed card counts.
+     * @param scores Array the meld points are stored into (same positions as the hands).
+     * @param trumps Array the best trump suits are stored into, can be null.
+     * @param iOffset Position of the first hand to score.
+     * @param iCount Number of hands to score.
+    */
+    public static void bestScore(long[] hands, int[] scores, int[] trumps, int iOffset, int iCount)
+    {
+        for (int i = iOffset; i < iOffset + iCount; i++) {
+            int iTrump = bestTrump(hands[i]);
+
+            scores[i] = score(hands[i], iTrump);
+            if (trumps != null) trumps[i] = iTrump;
+        }
+    }
+}
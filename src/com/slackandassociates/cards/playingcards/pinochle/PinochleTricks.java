@@ -0,0 +1,134 @@
+package com.slackandassociates.cards.playingcards.pinochle;
+
+/**
+ * Class used to decide and score pinochle tricks.  Cards are compared by the
+ * pinochle card order (A, 10, K, Q, J, 9), the highest trump played wins a trick
+ * (else the highest card of the suit led) and when the same card is played twice
+ * the first one played wins.  Tricks are scored with counters (A, 10 and K count
+ * one point, Q, J and 9 none) plus one point for the last trick, the 48 card deck
+ * holding 25 points.  Cards are given as card values (CardEnum.getValue()). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PinochleCards
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public final class PinochleTricks
+{
+    // public statics
+    /** Points scored for taking the last trick. */
+    public static final int LAST_TRICK = 1;
+
+    // private statics
+    /** Counter points of each pinochle rank (9, J, Q, K, 10, A). */
+    private static final int[] RANK_POINTS = {0, 0, 0, 1, 1, 1};
+
+    // --------------------------- Constructors -------------------------------
+
+    private PinochleTricks()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to compare two cards by pinochle rank (suits are not compared).
+     * @param iValue1 Card value of the first card.
+     * @param iValue2 Card value of the second card.
+     * @return Negative, zero or positive as the first card ranks lower, the
+     * same or higher than the second card.
+    */
+    public static int compareRanks(int iValue1, int iValue2)
+    {
+        return PinochleCards.rankOf(iValue1) - PinochleCards.rankOf(iValue2);
+    }
+
+    /**
+     * Method used to determine if a card played beats the card winning a trick.
+     * @param iValue Card value of the card played.
+     * @param iWinning Card value of the card winning the trick so far.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return True if the card played takes the lead.
+    */
+    public static boolean beats(int iValue, int iWinning, int iTrump)
+    {
+        int iSuit = PinochleCards.suitOf(iValue);
+        int iWinSuit = PinochleCards.suitOf(iWinning);
+
+        if (iSuit == iWinSuit) return PinochleCards.rankOf(iValue) > PinochleCards.rankOf(iWinning);
+
+        return iSuit == iTrump;
+    }
+
+    /**
+     * Method used to find the card winning a trick.
+     * @param cardValues Card values of the trick in the order played (lead first).
+     * @param iOffset Position of the card led.
+     * @param iNumCards Number of cards in the trick.
+     * @param iTrump Trump suit (PlayingCard.JPC_CLUBS .. JPC_SPADES).
+     * @return Position (from iOffset) of the card winning the trick.
+    */
+    public static int trickWinner(int[] cardValues, int iOffset, int iNumCards, int iTrump)
+    {
+        int iRet = 0;
+
+        for (int i = 1; i < iNumCards; i++) {
+            if (beats(cardValues[iOffset + i], cardValues[iOffset + iRet], iTrump)) iRet = i;
+        }
+
+        return iRet;
+    }
+
+    /**
+     * Method used to return the counter points of a card.
+     * @param iValue Card value.
+     * @return Counter points (1 for A, 10 and K, else 0).
+    */
+    public static int cardPoints(int iValue)
+    {
+        int iRank = PinochleCards.rankOf(iValue);
+
+        return (iRank < 0) ? 0 : RANK_POINTS[iRank];
+    }
+
+    /**
+     * Method used to return the counter points of a trick.
+     * @param cardValues Card values of the trick.
+     * @param iOffset Position of the first card.
+     * @param iNumCards Number of cards in the trick.
+     * @param bLastTrick True if the last trick (adds LAST_TRICK points).
+     * @return Points of the trick.
+    */
+    public static int trickPoints(int[] cardValues, int iOffset, int iNumCards, boolean bLastTrick)
+    {
+        int iRet = bLastTrick ? LAST_TRICK : 0;
+
+        for (int i = iOffset; i < iOffset + iNumCards; i++) iRet += cardPoints(cardValues[i]);
+
+        return iRet;
+    }
+
+    /**
+     * Method used to return the counter points of the cards in packed card
+     * counts (cards taken in tricks, a player's hand, etc.).
+     * @param counts Packed card counts (see PinochleCards).
+     * @return Counter points of the cards.
+    */
+    public static int countPoints(long counts)
+    {
+        int iRet = 0;
+
+        for (int s = 0; s < 4; s++) {
+            iRet += PinochleCards.countOf(counts, s, PinochleCards.ACE) +
+                    PinochleCards.countOf(counts, s, PinochleCards.TEN) +
+                    PinochleCards.countOf(counts, s, PinochleCards.KING);
+        }
+
+        return iRet;
+    }
+}
@@ -0,0 +1,163 @@
+package com.slackandassociates.cards.playingcards.poker;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Fork/join task used by the PokerEquityCalculator to count the boards dealt
+ * from the undealt cards.  An enumeration task counts every board whose first
+ * (lowest) undealt card is in its range of first cards, splitting the range in
+ * half while it holds more than one first card.  A sampling task deals random
+ * boards (partial Fisher-Yates over its own copy of the undealt cards) until its
+ * sample count is reached or the deadline passes.  Boards are counted without
+ * creating objects. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PokerEquityCalculator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+class EquityTask extends RecursiveTask
+{
+    static final long serialVersionUID = -2148934771022573318L;
+
+    // private statics
+    /** Number of samples dealt between deadline checks. */
+    private static final int DEADLINE_CHECK = 1024;
+
+    // private references
+    private final long[] holes;
+    private final long board;
+    private final int[] undealt;
+    private final int iCards;
+    private final int iFirst;
+    private final int iLast;
+    private final boolean bSplit;
+    private final long lSamples;
+    private final long lDeadline;
+    private final SplittableRandom rand;
+    private int[] scores;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create an enumeration task.
+     * @param holeMasks Card masks of the players' hole cards.
+     * @param boardMask Card mask of the board cards known.
+     * @param cards Bit indexes of the undealt cards.
+     * @param iNumCards Number of board cards to deal (1 - 5).
+     * @param iLo First undealt card position starting the boards counted.
+     * @param iHi Position after the last first card of the boards counted.
+     * @param bFork True to split the task, false to count on the calling thread.
+    */
+    EquityTask(long[] holeMasks, long boardMask, int[] cards, int iNumCards, int iLo, int iHi, boolean bFork)
+    {
+        holes = holeMasks;
+        board = boardMask;
+        undealt = cards;
+        iCards = iNumCards;
+        iFirst = iLo;
+        iLast = iHi;
+        bSplit = bFork;
+        lSamples = 0L;
+        lDeadline = 0L;
+        rand = null;
+    }
+
+    /**
+     * Constructor to create a sampling task.
+     * @param holeMasks Card masks of the players' hole cards.
+     * @param boardMask Card mask of the board cards known.
+     * @param cards Bit indexes of the undealt cards (copied by the task).
+     * @param iNumCards Number of board cards to deal (1 - 5).
+     * @param lNumSamples Maximum number of boards to deal.
+     * @param lDeadlineNanos System.nanoTime() to stop dealing at.
+     * @param sr SplittableRandom stream of the task.
+    */
+    EquityTask(long[] holeMasks, long boardMask, int[] cards, int iNumCards,
+               long lNumSamples, long lDeadlineNanos, SplittableRandom sr)
+    {
+        holes = holeMasks;
+        board = boardMask;
+        undealt = cards;
+        iCards = iNumCards;
+        iFirst = iLast = 0;
+        bSplit = false;
+        lSamples = lNumSamples;
+        lDeadline = lDeadlineNanos;
+        rand = sr;
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private void enumerate(PokerEquity eq, int iDepth, int iStart, long mask)
+    {
+        if (iDepth == iCards) {
+            eq.record(holes, mask, scores);
+            return;
+        }
+
+        int iEnd = undealt.length - (iCards - iDepth);
+
+        for (int i = iStart; i <= iEnd; i++) enumerate(eq, iDepth + 1, i + 1, mask | (1L << undealt[i]));
+    }
+
+    private PokerEquity sample()
+    {
+        PokerEquity eq = new PokerEquity(holes.length, false);
+        int[] cards = (int[]) undealt.clone();
+        int iNum = cards.length;
+
+        for (long s = 0L; s < lSamples; s++) {
+            long mask = board;
+
+            if (((s % DEADLINE_CHECK) == 0L) && (System.nanoTime() - lDeadline >= 0L)) break;
+
+            for (int i = 0; i < iCards; i++) {
+                int p = i + rand.nextInt(iNum - i);
+                int c = cards[p];
+
+                cards[p] = cards[i];
+                cards[i] = c;
+                mask |= 1L << c;
+            }
+            eq.record(holes, mask, scores);
+        }
+
+        return eq;
+    }
+
+    // ------------------------ Protected Methods -----------------------------
+
+    /**
+     * Method used to count the boards of the task (or split the task).
+     * @return PokerEquity containing the counts of the task boards.
+    */
+    protected Object compute()
+    {
+        PokerEquity ret;
+
+        scores = new int[holes.length];
+        if (rand != null) return sample();
+
+        if (bSplit && (iLast - iFirst > 1)) {
+            int iMid = (iFirst + iLast) >>> 1;
+            EquityTask first = new EquityTask(holes, board, undealt, iCards, iFirst, iMid, true);
+
+            first.fork();
+            PokerEquity second = (PokerEquity) new EquityTask(holes, board, undealt, iCards, iMid, iLast, true).compute();
+            ret = (PokerEquity) first.join();
+            ret.merge(second);
+        }
+        else {
+            ret = new PokerEquity(holes.length, true);
+            for (int i = iFirst; i < iLast; i++) enumerate(ret, 1, i + 1, board | (1L << undealt[i]));
+        }
+
+        return ret;
+    }
+}
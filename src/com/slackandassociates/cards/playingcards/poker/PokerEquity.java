@@ -0,0 +1,204 @@
+package com.slackandassociates.cards.playingcards.poker;
+
+import com.slackandassociates.cards.simulation.*;
+
+/**
+ * Class holds the win, tie and loss counts of each player over the boards
+ * dealt (all of the boards when enumerated, a sample of them otherwise).  A tie
+ * shared by n players adds 1/n to the equity of each of them. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PokerEquityCalculator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class PokerEquity implements DealAccumulator
+{
+    // private references
+    private long[] wins;
+    private long[] ties;
+    private double[] tieShares;
+    private long lBoards = 0L;
+    private boolean bExact;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create empty counts.
+     * @param iNumPlayers Number of players.
+     * @param bEnumerated True if the counts are for all of the boards.
+    */
+    public PokerEquity(int iNumPlayers, boolean bEnumerated)
+    {
+        wins = new long[iNumPlayers];
+        ties = new long[iNumPlayers];
+        tieShares = new double[iNumPlayers];
+        bExact = bEnumerated;
+    }
+
+    // ---------------------------- Package Methods ---------------------------
+
+    /**
+     * Method used to score the players' hands on a board and count the board.
+     * @param holes Card masks of the players' hole cards.
+     * @param board Card mask of the (complete) board.
+     * @param scores Work array (one entry per player) for the hand scores.
+    */
+    void record(long[] holes, long board, int[] scores)
+    {
+        int iBest = -1, iNumBest = 0;
+
+        for (int p = 0; p < holes.length; p++) {
+            int s = PokerHandEvaluator.evaluate(holes[p] | board);
+
+            scores[p] = s;
+            if (s > iBest) {
+                iBest = s;
+                iNumBest = 1;
+            }
+            else if (s == iBest) {
+                iNumBest++;
+            }
+        }
+
+        lBoards++;
+        for (int p = 0; p < holes.length; p++) {
+            if (scores[p] == iBest) {
+                if (iNumBest == 1) {
+                    wins[p]++;
+                }
+                else {
+                    ties[p]++;
+                    tieShares[p] += 1.0 / iNumBest;
+                }
+            }
+        }
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to merge the counts of another equity into this one.
+     * @param other PokerEquity (same players) to merge.
+    */
+    public void merge(DealAccumulator other)
+    {
+        PokerEquity pe = (PokerEquity) other;
+
+        for (int p = 0; p < wins.length; p++) {
+            wins[p] += pe.wins[p];
+            ties[p] += pe.ties[p];
+            tieShares[p] += pe.tieShares[p];
+        }
+        lBoards += pe.lBoards;
+    }
+
+    /**
+     * Method used to return the number of players.
+     * @return Number of players.
+    */
+    public int getPlayerCount()
+    {
+        return wins.length;
+    }
+
+    /**
+     * Method used to return the number of boards counted.
+     * @return Number of boards.
+    */
+    public long getBoardCount()
+    {
+        return lBoards;
+    }
+
+    /**
+     * Method used to return if the counts are exact (all boards enumerated)
+     * or from a sample of the boards.
+     * @return True if exact.
+    */
+    public boolean isExact()
+    {
+        return bExact;
+    }
+
+    /**
+     * Method used to return the number of boards a player won outright.
+     * @param iPlayer Player (0 based).
+     * @return Number of boards won.
+    */
+    public long getWins(int iPlayer)
+    {
+        return wins[iPlayer];
+    }
+
+    /**
+     * Method used to return the number of boards a player tied for the best hand.
+     * @param iPlayer Player (0 based).
+     * @return Number of boards tied.
+    */
+    public long getTies(int iPlayer)
+    {
+        return ties[iPlayer];
+    }
+
+    /**
+     * Method used to return the number of boards a player lost.
+     * @param iPlayer Player (0 based).
+     * @return Number of boards lost.
+    */
+    public long getLosses(int iPlayer)
+    {
+        return lBoards - wins[iPlayer] - ties[iPlayer];
+    }
+
+    /**
+     * Method used to return the probability of a player winning outright.
+     * @param iPlayer Player (0 based).
+     * @return Win probability (0 - 1).
+    */
+    public double getWinProbability(int iPlayer)
+    {
+        return (lBoards == 0L) ? 0.0 : (double) wins[iPlayer] / lBoards;
+    }
+
+    /**
+     * Method used to return the probability of a player tying for the best hand.
+     * @param iPlayer Player (0 based).
+     * @return Tie probability (0 - 1).
+    */
+    public double getTieProbability(int iPlayer)
+    {
+        return (lBoards == 0L) ? 0.0 : (double) ties[iPlayer] / lBoards;
+    }
+
+    /**
+     * Method used to return the equity of a player (share of the pot won on
+     * average, ties split).
+     * @param iPlayer Player (0 based).
+     * @return Equity (0 - 1).
+    */
+    public double getEquity(int iPlayer)
+    {
+        return (lBoards == 0L) ? 0.0 : (wins[iPlayer] + tieShares[iPlayer]) / lBoards;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        StringBuffer sbRet = new StringBuffer(100 + (wins.length * 40));
+
+        sbRet.append("PokerEquity: (boards: ").append(lBoards).append(bExact ? ", exact" : ", sampled");
+        for (int p = 0; p < wins.length; p++)
+            sbRet.append(", player ").append(p).append(": ").append(getEquity(p));
+        sbRet.append(")");
+
+        return sbRet.toString();
+    }
+}
@@ -0,0 +1,253 @@
+package com.slackandassociates.cards.playingcards.poker;
+
+import java.util.*;
+import java.util.concurrent.*;
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * Class used to calculate the win, tie and loss equity of poker hands (hold'em
+ * style, each player makes the best five card hand from their hole cards and the
+ * board) given the players' hole cards and a partial board.  The boards are dealt
+ * from the cards of a PlayingCardDeck.PC_DECK not held, on the board or dead.<br>
+ * If the number of boards left is no more than getMaxBoards() every board is
+ * counted (exact equity), the enumeration is split by first board card across
+ * the fork/join pool.  Otherwise random boards are sampled across the pool until
+ * getMaxSamples() boards are dealt or the time budget runs out.
+ * Sampling is split into a fixed number of tasks with random streams split from
+ * the seed, so a sample count limited run (with a time budget long enough) gives
+ * the same results each time, no matter the pool size. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see PokerEquity
+ * @see PokerHandEvaluator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class PokerEquityCalculator
+{
+    // public statics
+    /** Number of cards on a complete board. */
+    public static final int BOARD_CARDS = 5;
+    /** Default maximum number of boards enumerated (covers heads up preflop). */
+    public static final long DEF_MAX_BOARDS = 2000000L;
+    /** Default time budget of sampling (in milliseconds). */
+    public static final long DEF_TIME_BUDGET = 50L;
+
+    // private statics
+    /** Boards below which the enumeration is not split across threads. */
+    private static final long MIN_PARALLEL_BOARDS = 20000L;
+    /** Number of sampling tasks (random streams), independent of the pool size. */
+    private static final int SAMPLE_TASKS = 64;
+
+    // private references
+    private long lMaxBoards = DEF_MAX_BOARDS;
+    private long lTimeBudget = DEF_TIME_BUDGET;
+    private long lMaxSamples = Long.MAX_VALUE;
+    private long lSeed;
+
+    // --------------------------- Constructors -------------------------------
+
+    /** Default constructor - creates a calculator with the default limits. */
+    public PokerEquityCalculator()
+    {
+        lSeed = ThreadLocalRandom.current().nextLong();
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    private static long handMask(CardHand hand)
+    {
+        return (hand == null) ? 0L : new PlayingCardSet(hand).getMask();
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to return the number of boards (combinations) of k cards
+     * dealt from n cards.
+     * @param iNumCards Number of cards to deal from (n).
+     * @param iBoardCards Number of cards dealt (k).
+     * @return Number of boards.
+    */
+    public static long countBoards(int iNumCards, int iBoardCards)
+    {
+        long lRet = 1L;
+
+        if ((iBoardCards < 0) || (iBoardCards > iNumCards)) return 0L;
+        for (int i = 1; i <= iBoardCards; i++) lRet = lRet * (iNumCards - iBoardCards + i) / i;
+
+        return lRet;
+    }
+
+    /**
+     * Method used to calculate the equity of the players' hands on the common
+     * fork/join pool.
+     * @param holes CardHand of each player's hole cards.
+     * @param board CardHand of the board cards known (0 - 5 cards), can be null.
+     * @return PokerEquity of the players.
+    */
+    public PokerEquity calculate(CardHand[] holes, CardHand board)
+    {
+        long[] holeMasks = new long[holes.length];
+
+        for (int p = 0; p < holes.length; p++) holeMasks[p] = handMask(holes[p]);
+
+        return calculate(holeMasks, handMask(board), 0L, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method used to calculate the equity of the players' hands on the common
+     * fork/join pool.
+     * @param holes PlayingCardSet card mask of each player's hole cards.
+     * @param board Card mask of the board cards known (0 - 5 cards).
+     * @return PokerEquity of the players.
+    */
+    public PokerEquity calculate(long[] holes, long board)
+    {
+        return calculate(holes, board, 0L, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method used to calculate the equity of the players' hands.
+     * @param holes PlayingCardSet card mask of each player's hole cards.
+     * @param board Card mask of the board cards known (0 - 5 cards).
+     * @param dead Card mask of the dead (folded, exposed) cards not dealt.
+     * @param pool ForkJoinPool to run the calculation in.
+     * @return PokerEquity of the players.
+     * @throws IllegalArgumentException If a card is given more than once or the
+     * board has more than five cards.
+    */
+    public PokerEquity calculate(long[] holes, long board, long dead, ForkJoinPool pool)
+    {
+        long known = board | dead;
+        int iKnown = Long.bitCount(board) + Long.bitCount(dead);
+
+        for (int p = 0; p < holes.length; p++) {
+            known |= holes[p];
+            iKnown += Long.bitCount(holes[p]);
+        }
+        if ((known & ~PlayingCardSet.FULL_MASK) != 0L)
+            throw new IllegalArgumentException("PokerEquityCalculator: card masks hold non playing card bits.");
+        if (Long.bitCount(known) != iKnown)
+            throw new IllegalArgumentException("PokerEquityCalculator: card given more than once.");
+        if (Long.bitCount(board) > BOARD_CARDS)
+            throw new IllegalArgumentException("PokerEquityCalculator: board holds more than " + BOARD_CARDS + " cards.");
+
+        int iCards = BOARD_CARDS - Long.bitCount(board);
+        long unknown = PlayingCardSet.FULL_MASK & ~known;
+        int[] undealt = new int[Long.bitCount(unknown)];
+
+        for (int i = 0; unknown != 0L; i++) {
+            undealt[i] = Long.numberOfTrailingZeros(unknown);
+            unknown &= unknown - 1;
+        }
+
+        long lBoards = countBoards(undealt.length, iCards);
+
+        if (iCards == 0) {
+            PokerEquity ret = new PokerEquity(holes.length, true);
+            ret.record(holes, board, new int[holes.length]);
+            return ret;
+        }
+        if (lBoards <= lMaxBoards) {
+            EquityTask task = new EquityTask(holes, board, undealt, iCards, 0, undealt.length - iCards + 1,
+                                             lBoards >= MIN_PARALLEL_BOARDS);
+            return (PokerEquity) ((lBoards >= MIN_PARALLEL_BOARDS) ? pool.invoke(task) : task.compute());
+        }
+
+        // too many boards, sample until done or out of time
+        long lDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lTimeBudget);
+        SplittableRandom rand = new SplittableRandom(lSeed);
+        EquityTask[] tasks = new EquityTask[SAMPLE_TASKS];
+        PokerEquity ret = new PokerEquity(holes.length, false);
+
+        for (int i = 0; i < SAMPLE_TASKS; i++) {
+            long lQuota = (lMaxSamples / SAMPLE_TASKS) + ((i < lMaxSamples % SAMPLE_TASKS) ? 1L : 0L);
+            tasks[i] = new EquityTask(holes, board, undealt, iCards, lQuota, lDeadline, rand.split());
+            pool.execute(tasks[i]);
+        }
+        for (int i = 0; i < SAMPLE_TASKS; i++) ret.merge((PokerEquity) tasks[i].join());
+
+        return ret;
+    }
+
+    /**
+     * Method used to set the maximum number of boards counted exactly (more
+     * boards are sampled).
+     * @param lBoards Maximum number of boards enumerated (0 to always sample).
+    */
+    public void setMaxBoards(long lBoards)
+    {
+        lMaxBoards = Math.max(0L, lBoards);
+    }
+
+    /**
+     * Method used to return the maximum number of boards counted exactly.
+     * @return Maximum number of boards enumerated.
+    */
+    public long getMaxBoards()
+    {
+        return lMaxBoards;
+    }
+
+    /**
+     * Method used to set the time budget of sampling.
+     * @param lMillis Time budget in milliseconds.
+    */
+    public void setTimeBudget(long lMillis)
+    {
+        lTimeBudget = Math.max(0L, lMillis);
+    }
+
+    /**
+     * Method used to return the time budget of sampling.
+     * @return Time budget in milliseconds.
+    */
+    public long getTimeBudget()
+    {
+        return lTimeBudget;
+    }
+
+    /**
+     * Method used to set the maximum number of boards sampled.
+     * @param lSamples Maximum number of samples (1 or more).
+    */
+    public void setMaxSamples(long lSamples)
+    {
+        lMaxSamples = Math.max(1L, lSamples);
+    }
+
+    /**
+     * Method used to return the maximum number of boards sampled.
+     * @return Maximum number of samples (Long.MAX_VALUE if only the time
+     * budget limits sampling).
+    */
+    public long getMaxSamples()
+    {
+        return lMaxSamples;
+    }
+
+    /**
+     * Method used to set the seed the sampling random streams are split from.
+     * @param seed Seed of the sampling random streams.
+    */
+    public void setSeed(long seed)
+    {
+        lSeed = seed;
+    }
+
+    /**
+     * Method used to return the seed the sampling random streams are split
+     * from (randomly chosen when the calculator is created).
+     * @return Seed of the sampling random streams.
+    */
+    public long getSeed()
+    {
+        return lSeed;
+    }
+}
@@ -0,0 +1,265 @@
+package com.slackandassociates.cards.playingcards.poker;
+
+import com.slackandassociates.cards.*;
+import com.slackandassociates.cards.playingcards.*;
+
+/**
+ * Class used to rank poker hands of 5, 6 or 7 playing cards (best five card
+ * hand of the cards held).  Hands are evaluated from a PlayingCardSet card mask,
+ * each suit's 13 rank bits are looked up in precomputed 8192 entry tables
+ * (straight and top ranks tables, used for flushes and kickers) and the rank
+ * counts (pairs, trips, quads) are found with bit operations across the suits,
+ * so a hand is ranked in a few dozen operations without creating objects.<br>
+ * The score returned is an int where a higher score is a better hand and equal
+ * scores are tied hands.  The hand category (HIGH_CARD .. STRAIGHT_FLUSH) is kept
+ * in the bits above CATEGORY_SHIFT, the ranks deciding the hand (two is 0, ace is
+ * 12) are kept below it four bits each, most significant first.<br>
+ * Hands of less than five cards are ranked on the cards held, hands of more
+ * than seven cards are not supported. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * <li> 2026-10-17 - Card values outside 1 - 52 are ignored when ranking an
+ *                   array of hands (were shifted into another card's bit).
+ * </ul>
+ * @see PlayingCardSet
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.01 2026-10-17
+*/
+public final class PokerHandEvaluator
+{
+    // public statics (hand categories)
+    /** Hand category - high card. */
+    public static final int HIGH_CARD = 0;
+    /** Hand category - one pair. */
+    public static final int ONE_PAIR = 1;
+    /** Hand category - two pair. */
+    public static final int TWO_PAIR = 2;
+    /** Hand category - three of a kind. */
+    public static final int THREE_OF_A_KIND = 3;
+    /** Hand category - straight. */
+    public static final int STRAIGHT = 4;
+    /** Hand category - flush. */
+    public static final int FLUSH = 5;
+    /** Hand category - full house. */
+    public static final int FULL_HOUSE = 6;
+    /** Hand category - four of a kind. */
+    public static final int FOUR_OF_A_KIND = 7;
+    /** Hand category - straight flush (a royal flush is the ace high one). */
+    public static final int STRAIGHT_FLUSH = 8;
+    /** Shift of the hand category in a score. */
+    public static final int CATEGORY_SHIFT = 20;
+
+    // private statics
+    private static final int NUM_MASKS = 1 << PlayingCardSet.NUM_RANKS;
+    private static final int ACE = PlayingCardSet.NUM_RANKS - 1;
+    private static final int WHEEL = (1 << ACE) | 0xF;  // ace, two - five
+    private static final String[] CATEGORY_NAMES = {"High Card", "One Pair", "Two Pair", "Three of a Kind",
+                                                    "Straight", "Flush", "Full House", "Four of a Kind",
+                                                    "Straight Flush"};
+    /** Top rank of the best straight in a rank mask, plus one (0 if no straight). */
+    private static final byte[] STRAIGHT_TABLE = new byte[NUM_MASKS];
+    /** Top five ranks of a rank mask, four bits each (highest in bits 16 - 19). */
+    private static final int[] TOP5_TABLE = new int[NUM_MASKS];
+
+    static {
+        for (int m = 0; m < NUM_MASKS; m++) {
+            int iTop = 0, iShift = 16;
+
+            for (int r = ACE; (r >= 0) && (iShift >= 0); r--) {
+                if ((m & (1 << r)) != 0) {
+                    iTop |= r << iShift;
+                    iShift -= 4;
+                }
+            }
+            TOP5_TABLE[m] = iTop;
+
+            for (int r = ACE; r >= 4; r--) {
+                int iRun = 0x1F << (r - 4);
+                if ((m & iRun) == iRun) {
+                    STRAIGHT_TABLE[m] = (byte) (r + 1);
+                    break;
+                }
+            }
+            if ((STRAIGHT_TABLE[m] == 0) && ((m & WHEEL) == WHEEL)) STRAIGHT_TABLE[m] = 4;  // five high
+        }
+    }
+
+    // --------------------------- Constructors -------------------------------
+
+    private PokerHandEvaluator()
+    {
+        // static methods only
+    }
+
+    // ---------------------------- Private Methods ---------------------------
+
+    /** Ranks of one suit of a card mask, re-ordered two (bit 0) to ace (bit 12). */
+    private static int suitRanks(long mask, int iSuit)
+    {
+        int m = PlayingCardSet.suitMask(mask, iSuit);
+
+        return (m >>> 1) | ((m & 1) << ACE);
+    }
+
+    private static int topRank(int m)
+    {
+        return 31 - Integer.numberOfLeadingZeros(m);
+    }
+
+    // ---------------------------- Public Methods ----------------------------
+
+    /**
+     * Method used to rank a hand held as a card mask.
+     * @param mask PlayingCardSet card mask of the cards (5 - 7 cards).
+     * @return Score of the best five card hand (higher is better).
+    */
+    public static int evaluate(long mask)
+    {
+        int s0 = suitRanks(mask, PlayingCard.JPC_CLUBS);
+        int s1 = suitRanks(mask, PlayingCard.JPC_DIAMONDS);
+        int s2 = suitRanks(mask, PlayingCard.JPC_HEARTS);
+        int s3 = suitRanks(mask, PlayingCard.JPC_SPADES);
+        int iFlush = (Integer.bitCount(s0) >= 5) ? s0 : (Integer.bitCount(s1) >= 5) ? s1 :
+                     (Integer.bitCount(s2) >= 5) ? s2 : (Integer.bitCount(s3) >= 5) ? s3 : 0;
+
+        // with seven cards or less a flush rules out a full house or four of a kind
+        if (iFlush != 0) {
+            int iStraight = STRAIGHT_TABLE[iFlush];
+
+            if (iStraight != 0) return (STRAIGHT_FLUSH << CATEGORY_SHIFT) | ((iStraight - 1) << 16);
+
+            return (FLUSH << CATEGORY_SHIFT) | TOP5_TABLE[iFlush];
+        }
+
+        // rank counts added across the suits a bit at a time (count = c1 + 2 * c2 + 4 * c4)
+        int iAny = s0 | s1 | s2 | s3;
+        int a = s0 ^ s1, b = s0 & s1, c = s2 ^ s3, d = s2 & s3;
+        int c1 = a ^ c, iCarry = a & c;
+        int c2 = b ^ d ^ iCarry;
+        int c4 = (b & d) | (b & iCarry) | (d & iCarry);
+        int iTrips = c1 & c2;
+        int iPairs = c2 & ~c1;
+
+        if (c4 != 0) {
+            int q = topRank(c4);
+            return (FOUR_OF_A_KIND << CATEGORY_SHIFT) | (q << 16) | ((TOP5_TABLE[iAny & ~(1 << q)] >>> 16) << 12);
+        }
+        if (iTrips != 0) {
+            int t = topRank(iTrips);
+            int iRest = (iTrips & ~(1 << t)) | iPairs;
+
+            if (iRest != 0) return (FULL_HOUSE << CATEGORY_SHIFT) | (t << 16) | (topRank(iRest) << 12);
+        }
+
+        int iStraight = STRAIGHT_TABLE[iAny];
+
+        if (iStraight != 0) return (STRAIGHT << CATEGORY_SHIFT) | ((iStraight - 1) << 16);
+
+        if (iTrips != 0) {
+            int t = topRank(iTrips);
+            return (THREE_OF_A_KIND << CATEGORY_SHIFT) | (t << 16) | ((TOP5_TABLE[iAny & ~(1 << t)] >>> 12) << 8);
+        }
+        if (iPairs != 0) {
+            int p1 = topRank(iPairs);
+            int iLower = iPairs & ~(1 << p1);
+
+            if (iLower != 0) {
+                int p2 = topRank(iLower);
+                int iKicker = iAny & ~((1 << p1) | (1 << p2));
+                return (TWO_PAIR << CATEGORY_SHIFT) | (p1 << 16) | (p2 << 12) | ((TOP5_TABLE[iKicker] >>> 16) << 8);
+            }
+
+            return (ONE_PAIR << CATEGORY_SHIFT) | (p1 << 16) | ((TOP5_TABLE[iAny & ~(1 << p1)] >>> 8) << 4);
+        }
+
+        return (HIGH_CARD << CATEGORY_SHIFT) | TOP5_TABLE[iAny];
+    }
+
+    /**
+     * Method used to rank a hand held in a playing card set.
+     * @param set PlayingCardSet holding the cards (5 - 7 cards).
+     * @return Score of the best five card hand (higher is better).
+    */
+    public static int evaluate(PlayingCardSet set)
+    {
+        return evaluate(set.getMask());
+    }
+
+    /**
+     * Method used to rank a hand held in a card hand (cards that are not one
+     * of the 52 playing cards are ignored).
+     * @param hand CardHand holding the cards (5 - 7 cards).
+     * @return Score of the best five card hand (higher is better).
+    */
+    public static int evaluate(CardHand hand)
+    {
+        long mask = 0L;
+
+        for (int i = 0; i < hand.getMaximumCardCount(); i++) {
+            Card c = hand.cardAt(i);
+            if (c != CardHand.EMPTY_CARD) mask |= PlayingCardSet.bitOf(c.getCardValue());
+        }
+
+        return evaluate(mask);
+    }
+
+    /**
+     * Method used to rank an array of hands held as card masks.
+     * @param masks Array of PlayingCardSet card masks.
+     * @param scores Array the scores are stored into (same positions as the masks).
+     * @param iOffset Position of the first hand to rank.
+     * @param iCount Number of hands to rank.
+    */
+    public static void evaluate(long[] masks, int[] scores, int iOffset, int iCount)
+    {
+        for (int i = iOffset; i < iOffset + iCount; i++) scores[i] = evaluate(masks[i]);
+    }
+
+    /**
+     * Method used to rank an array of hands held as card values.  The card
+     * values (CardEnum.getValue()) of the hands are stored one hand after the
+     * other, iHandSize values each (values that are not one of the 52 playing
+     * cards, jokers, card backs, etc., are ignored).
+     * @param cardValues Array of the card values of the hands.
+     * @param iHandSize Number of cards in each hand (5 - 7).
+     * @param scores Array the scores are stored into (one for each hand).
+     * @param iNumHands Number of hands to rank.
+    */
+    public static void evaluate(int[] cardValues, int iHandSize, int[] scores, int iNumHands)
+    {
+        int idx = 0;
+
+        for (int h = 0; h < iNumHands; h++) {
+            long mask = 0L;
+
+            for (int i = 0; i < iHandSize; i++) {
+                int iBit = cardValues[idx++] - 1;
+                if ((iBit >= 0) && (iBit < PlayingCardSet.NUM_CARDS)) mask |= 1L << iBit;
+            }
+            scores[h] = evaluate(mask);
+        }
+    }
+
+    /**
+     * Method used to return the hand category of a score.
+     * @param iScore Score returned by evaluate().
+     * @return Hand category (HIGH_CARD .. STRAIGHT_FLUSH).
+    */
+    public static int getCategory(int iScore)
+    {
+        return iScore >>> CATEGORY_SHIFT;
+    }
+
+    /**
+     * Method used to return the name of the hand category of a score.
+     * @param iScore Score returned by evaluate().
+     * @return Name of the hand category (e.g. "Full House").
+    */
+    public static String getCategoryName(int iScore)
+    {
+        return CATEGORY_NAMES[getCategory(iScore)];
+    }
+}
@@ -0,0 +1,27 @@
+package com.slackandassociates.cards.simulation;
+
+/**
+ * Interface defining the results collected by a deal simulation.  Each
+ * simulation worker collects results into its own accumulator, the worker
+ * accumulators are merged together to get the simulation results.  Merging
+ * must be associative (the order the workers are merged in is not defined). <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see DealSimulation
+ * @see MonteCarloEngine
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public interface DealAccumulator
+{
+    /**
+     * Method used to merge the results of another accumulator (of the same
+     * implementation) into this accumulator.
+     * @param other DealAccumulator containing the results to merge in.
+    */
+    public void merge(DealAccumulator other);
+}
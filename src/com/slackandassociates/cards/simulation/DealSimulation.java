@@ -0,0 +1,37 @@
+package com.slackandassociates.cards.simulation;
+
+import com.slackandassociates.cards.*;
+
+/**
+ * Interface defining a deal simulation run by the MonteCarloEngine.  The
+ * engine calls evaluate() once for each deal with a freshly shuffled deck, the
+ * evaluation deals the cards it needs from the deck and records the outcome into
+ * the accumulator.  Each worker has its own deck and accumulator, so evaluate()
+ * is called from several threads at once and should not change shared state. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see MonteCarloEngine
+ * @see DealAccumulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public interface DealSimulation
+{
+    /**
+     * Method used to create an (empty) accumulator for a simulation worker.
+     * @return DealAccumulator the deal results are recorded into.
+    */
+    public DealAccumulator createAccumulator();
+
+    /**
+     * Method used to evaluate one deal.
+     * @param deck CardDeck (shuffled) to deal the cards from.
+     * @param acc DealAccumulator (created by createAccumulator()) to record the
+     * deal outcome into.
+    */
+    public void evaluate(CardDeck deck, DealAccumulator acc);
+}
@@ -0,0 +1,80 @@
+package com.slackandassociates.cards.simulation;
+
+import java.util.*;
+import java.util.concurrent.*;
+import com.slackandassociates.cards.*;
+
+/**
+ * Fork/join task used by the MonteCarloEngine to run a range of deals.  Tasks
+ * larger than the engine deals per task split in half, the first half taking a
+ * random stream split from the task's stream.  The first half results are
+ * merged with the second half results. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see MonteCarloEngine
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+class DealTask extends RecursiveTask
+{
+    static final long serialVersionUID = 2730412998376925631L;
+
+    // private references
+    private final MonteCarloEngine engine;
+    private final DealSimulation sim;
+    private final long lDeals;
+    private final SplittableRandom rand;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create a task.
+     * @param mce MonteCarloEngine running the task.
+     * @param ds DealSimulation to run.
+     * @param lNumDeals Number of deals run by the task.
+     * @param sr SplittableRandom stream of the task.
+    */
+    DealTask(MonteCarloEngine mce, DealSimulation ds, long lNumDeals, SplittableRandom sr)
+    {
+        engine = mce;
+        sim = ds;
+        lDeals = lNumDeals;
+        rand = sr;
+    }
+
+    // ------------------------ Protected Methods -----------------------------
+
+    /**
+     * Method used to run the deals of the task (or split the task).
+     * @return DealAccumulator containing the results of the task deals.
+    */
+    protected Object compute()
+    {
+        DealAccumulator ret;
+
+        if (lDeals > engine.getDealsPerTask()) {
+            long lHalf = lDeals / 2;
+            DealTask first = new DealTask(engine, sim, lHalf, rand.split());
+
+            first.fork();
+            DealAccumulator second = (DealAccumulator) new DealTask(engine, sim, lDeals - lHalf, rand).compute();
+            ret = (DealAccumulator) first.join();
+            ret.merge(second);
+        }
+        else {
+            CardDeck deck = engine.createDeck(rand);
+
+            ret = sim.createAccumulator();
+            for (long i = 0; i < lDeals; i++) {
+                deck.shuffle();
+                sim.evaluate(deck, ret);
+            }
+        }
+
+        return ret;
+    }
+}
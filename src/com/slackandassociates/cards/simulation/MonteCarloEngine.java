@@ -0,0 +1,170 @@
+package com.slackandassociates.cards.simulation;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.random.RandomGenerator;
+import com.slackandassociates.cards.*;
+
+/**
+ * Class used to run Monte Carlo deal simulations in parallel (fork/join).  The
+ * deals are split into tasks of getDealsPerTask() deals, each task has its own
+ * deck (shuffled with a Fisher-Yates shuffle) and its own random stream split
+ * from the engine seed (SplittableRandom), and collects its results into its own
+ * accumulator.  Task accumulators are merged as the tasks join.<br>
+ * The split of the deals (and the random streams) only depend on the seed, the
+ * number of deals and the deals per task, so a simulation run with the same seed
+ * gives the same results no matter the number of threads running it.<br>
+ * Works with any CardEnum[] deck definition (PlayingCardDeck.PC_DECK,
+ * PinochleCardDeck.PCP_DECK, MilestoneCardDeck.MC_DECK, etc.), using more than
+ * seven decks creates CompactCardDeck decks. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see DealSimulation
+ * @see DealAccumulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class MonteCarloEngine
+{
+    // public statics
+    /** Default number of deals run by each task. */
+    public static final long DEF_DEALS_PER_TASK = 8192L;
+
+    // private references
+    private int iNumDecks;
+    private CardEnum[] deckDef;
+    private CardEnum[] extraCards;
+    private CardFactory cardFactory;
+    private long lSeed;
+    private long lDealsPerTask = DEF_DEALS_PER_TASK;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create an engine dealing from one deck of the deck
+     * definition.  Cards are created with a FlyweightCardFactory (cards dealt
+     * are shared and should not be changed).
+     * @param deck CardEnum array containing the deck definition.
+     * @param cardImpl Class instance of the card implementation.
+    */
+    public MonteCarloEngine(CardEnum[] deck, Class cardImpl)
+    {
+        this(CardDeck.JC_ONE_DECK, deck, new FlyweightCardFactory(cardImpl), null);
+    }
+
+    /**
+     * Constructor to create an engine.
+     * @param iDecks Number of decks of the deck definition in each deck (1 or more).
+     * @param deck CardEnum array containing the deck definition.
+     * @param factory CardFactory used to create the cards dealt (a
+     * FlyweightCardFactory does not create cards while dealing).
+     * @param extra CardEnum array containing extra cards added once to each
+     * deck, can be null.
+    */
+    public MonteCarloEngine(int iDecks, CardEnum[] deck, CardFactory factory, CardEnum[] extra)
+    {
+        iNumDecks = Math.max(CardDeck.JC_ONE_DECK, iDecks);
+        deckDef = deck;
+        extraCards = extra;
+        cardFactory = factory;
+        lSeed = ThreadLocalRandom.current().nextLong();
+    }
+
+    // ------------------------ Protected Methods -----------------------------
+
+    /**
+     * Method used to create the deck used by a task.  Can be overridden to use
+     * a different deck or shuffle.
+     * @param rg RandomGenerator (random stream of the task) to shuffle with.
+     * @return CardDeck used by the task.
+    */
+    protected CardDeck createDeck(RandomGenerator rg)
+    {
+        CardDeck ret;
+
+        if (iNumDecks > CardDeck.JC_SEVEN_DECK)
+            ret = new CompactCardDeck(iNumDecks, deckDef, cardFactory, extraCards);
+        else
+            ret = new CardDeck(iNumDecks, deckDef, cardFactory, extraCards);
+        ret.setShuffler(new FisherYatesCardShuffler(rg));
+
+        return ret;
+    }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to run a simulation on the common fork/join pool.
+     * @param sim DealSimulation to run.
+     * @param lNumDeals Number of deals to simulate.
+     * @return DealAccumulator containing the merged results of all deals.
+    */
+    public DealAccumulator run(DealSimulation sim, long lNumDeals)
+    {
+        return run(sim, lNumDeals, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method used to run a simulation on the given fork/join pool.
+     * @param sim DealSimulation to run.
+     * @param lNumDeals Number of deals to simulate.
+     * @param pool ForkJoinPool to run the simulation tasks in.
+     * @return DealAccumulator containing the merged results of all deals.
+    */
+    public DealAccumulator run(DealSimulation sim, long lNumDeals, ForkJoinPool pool)
+    {
+        return (DealAccumulator) pool.invoke(new DealTask(this, sim, Math.max(0L, lNumDeals),
+                                                          new SplittableRandom(lSeed)));
+    }
+
+    /**
+     * Method used to set the seed the random streams are split from.
+     * @param seed Seed of the simulation random streams.
+    */
+    public void setSeed(long seed)
+    {
+        lSeed = seed;
+    }
+
+    /**
+     * Method used to return the seed the random streams are split from
+     * (randomly chosen when the engine is created).
+     * @return Seed of the simulation random streams.
+    */
+    public long getSeed()
+    {
+        return lSeed;
+    }
+
+    /**
+     * Method used to set the number of deals run by each task.
+     * @param lDeals Number of deals in each task (1 or more).
+    */
+    public void setDealsPerTask(long lDeals)
+    {
+        lDealsPerTask = Math.max(1L, lDeals);
+    }
+
+    /**
+     * Method used to return the number of deals run by each task.
+     * @return Number of deals in each task.
+    */
+    public long getDealsPerTask()
+    {
+        return lDealsPerTask;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "MonteCarloEngine: (decks: " + iNumDecks + ", cards: " + deckDef.length +
+               ", seed: " + lSeed + ", deals per task: " + lDealsPerTask + ")";
+    }
+}
@@ -0,0 +1,115 @@
+package com.slackandassociates.cards.simulation;
+
+/**
+ * Deal accumulator counting how many deals ended with each outcome (outcomes
+ * are numbered from 0).  Used to get the probability (or distribution) of
+ * the outcomes of a simulation. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see DealAccumulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class OutcomeCounter implements DealAccumulator
+{
+    // private references
+    private long[] counts;
+    private long lTotal = 0L;
+
+    // --------------------------- Constructors -------------------------------
+
+    /**
+     * Constructor to create an outcome counter.
+     * @param iNumOutcomes Number of outcomes counted (0 to iNumOutcomes - 1).
+    */
+    public OutcomeCounter(int iNumOutcomes)
+    {
+        counts = new long[iNumOutcomes];
+    }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to count one deal ending with an outcome.
+     * @param iOutcome Outcome of the deal (0 to getNumOutcomes() - 1).
+    */
+    public void count(int iOutcome)
+    {
+        counts[iOutcome]++;
+        lTotal++;
+    }
+
+    /**
+     * Method used to merge the counts of another outcome counter into this one.
+     * @param other OutcomeCounter to merge (must count the same outcomes).
+    */
+    public void merge(DealAccumulator other)
+    {
+        OutcomeCounter oc = (OutcomeCounter) other;
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += oc.counts[i];
+        }
+        lTotal += oc.lTotal;
+    }
+
+    /**
+     * Method used to return the number of outcomes counted.
+     * @return Number of outcomes.
+    */
+    public int getNumOutcomes()
+    {
+        return counts.length;
+    }
+
+    /**
+     * Method used to return the number of deals ending with an outcome.
+     * @param iOutcome Outcome to get the count of.
+     * @return Number of deals with the outcome.
+    */
+    public long getCount(int iOutcome)
+    {
+        return counts[iOutcome];
+    }
+
+    /**
+     * Method used to return the total number of deals counted.
+     * @return Number of deals counted.
+    */
+    public long getTotal()
+    {
+        return lTotal;
+    }
+
+    /**
+     * Method used to return the probability (frequency) of an outcome.
+     * @param iOutcome Outcome to get the probability of.
+     * @return Probability of the outcome, 0 if nothing counted.
+    */
+    public double getProbability(int iOutcome)
+    {
+        return (lTotal == 0L) ? 0.0 : (double) counts[iOutcome] / lTotal;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        StringBuffer sbRet = new StringBuffer(100);
+
+        sbRet.append("OutcomeCounter: (total: ").append(lTotal).append(") [");
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) sbRet.append(", ");
+            sbRet.append(counts[i]);
+        }
+        sbRet.append("]");
+
+        return sbRet.toString();
+    }
+}
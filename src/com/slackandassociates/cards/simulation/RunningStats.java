@@ -0,0 +1,150 @@
+package com.slackandassociates.cards.simulation;
+
+/**
+ * Deal accumulator keeping the count, mean and variance of a value recorded
+ * for each deal (winnings, points, etc.) without storing the values.  Uses
+ * Welford's update for each value and Chan's formula to merge accumulators, so
+ * the results are stable over billions of values. <br><br>
+ * <b>Changes:</b>
+ * <ul>
+ * <li> 2026-10-17 - Initial release.
+ * </ul>
+ * @see DealAccumulator
+ * @author Michael G. Slack
+ * @author mike.g.slack@gmail.com
+ * @created 2026-10-17
+ * @version Version 1.00 2026-10-17
+*/
+public class RunningStats implements DealAccumulator
+{
+    // private references
+    private long lCount = 0L;
+    private double dMean = 0.0;
+    private double dM2 = 0.0;
+    private double dMin = Double.POSITIVE_INFINITY;
+    private double dMax = Double.NEGATIVE_INFINITY;
+
+    // --------------------------- Constructors -------------------------------
+
+    /** Default constructor - creates empty statistics. */
+    public RunningStats()
+    {
+        // empty constructor
+    }
+
+    // --------------------------- Public Methods -----------------------------
+
+    /**
+     * Method used to record a value.
+     * @param dValue Value to record.
+    */
+    public void add(double dValue)
+    {
+        double dDelta = dValue - dMean;
+
+        lCount++;
+        dMean += dDelta / lCount;
+        dM2 += dDelta * (dValue - dMean);
+        if (dValue < dMin) dMin = dValue;
+        if (dValue > dMax) dMax = dValue;
+    }
+
+    /**
+     * Method used to merge the values of another running stats into this one.
+     * @param other RunningStats to merge.
+    */
+    public void merge(DealAccumulator other)
+    {
+        RunningStats rs = (RunningStats) other;
+
+        if (rs.lCount == 0L) return;
+        if (lCount == 0L) {
+            lCount = rs.lCount;
+            dMean = rs.dMean;
+            dM2 = rs.dM2;
+        }
+        else {
+            long lN = lCount + rs.lCount;
+            double dDelta = rs.dMean - dMean;
+
+            dMean += dDelta * rs.lCount / lN;
+            dM2 += rs.dM2 + dDelta * dDelta * ((double) lCount * rs.lCount / lN);
+            lCount = lN;
+        }
+        dMin = Math.min(dMin, rs.dMin);
+        dMax = Math.max(dMax, rs.dMax);
+    }
+
+    /**
+     * Method used to return the number of values recorded.
+     * @return Number of values.
+    */
+    public long getCount()
+    {
+        return lCount;
+    }
+
+    /**
+     * Method used to return the mean (expected value) of the values.
+     * @return Mean of the values, 0 if none recorded.
+    */
+    public double getMean()
+    {
+        return dMean;
+    }
+
+    /**
+     * Method used to return the (sample) variance of the values.
+     * @return Variance of the values, 0 if less than two recorded.
+    */
+    public double getVariance()
+    {
+        return (lCount < 2L) ? 0.0 : dM2 / (lCount - 1);
+    }
+
+    /**
+     * Method used to return the standard deviation of the values.
+     * @return Standard deviation of the values.
+    */
+    public double getStandardDeviation()
+    {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Method used to return the standard error of the mean.
+     * @return Standard error of the mean, 0 if less than two values recorded.
+    */
+    public double getStandardError()
+    {
+        return (lCount < 2L) ? 0.0 : Math.sqrt(getVariance() / lCount);
+    }
+
+    /**
+     * Method used to return the smallest value recorded.
+     * @return Smallest value, positive infinity if none recorded.
+    */
+    public double getMinimum()
+    {
+        return dMin;
+    }
+
+    /**
+     * Method used to return the largest value recorded.
+     * @return Largest value, negative infinity if none recorded.
+    */
+    public double getMaximum()
+    {
+        return dMax;
+    }
+
+    /**
+     * Method used to return the class instance as a string value.
+     * @return A String value representing the class instance.
+    */
+    public String toString()
+    {
+        return "RunningStats: (count: " + lCount + ", mean: " + dMean +
+               ", variance: " + getVariance() + ", min: " + dMin + ", max: " + dMax + ")";
+    }
+}